@@ -0,0 +1,53 @@
+package com.org.Traini8.Benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.org.Traini8.Traini8Application;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+
+/**
+ * Starts the application without a web server against an in-memory H2
+ * database in MySQL mode and seeds it with the {@link SyntheticCatalog}.
+ * Each benchmark fork owns one context, so forks never share data.
+ *
+ * The search cache is switched off so that benchmarks measure the database
+ * path rather than cache hits.
+ */
+final class BenchmarkContext {
+
+    private static final int SEED_CHUNK = 5_000;
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * Starts a context and registers the first {@code rows} centres of the
+     * synthetic catalog through the bulk registration service.
+     *
+     * @param rows the number of centres to seed.
+     * @return the running context; the caller closes it in its tear-down.
+     */
+    static ConfigurableApplicationContext start(final int rows) {
+        final var application = new SpringApplication(Traini8Application.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        final var context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:traini8bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.cache.type=none",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.orm.deprecation=ERROR");
+
+        final var registrationService = context.getBean(TrainingCenterRegistrationService.class);
+        for (int from = 0; from < rows; from += SEED_CHUNK) {
+            registrationService.saveTrainingCentres(
+                    SyntheticCatalog.centres(from, Math.min(SEED_CHUNK, rows - from)));
+        }
+        return context;
+    }
+}
@@ -0,0 +1,83 @@
+package com.org.Traini8.Benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Compares the response encodings a client can ask for: JSON, CBOR and Smile,
+ * each with and without gzip, for a large result of
+ * {@link TrainingCentreView}s. The measured time is the server-side cost of
+ * producing the body (serialization plus compression); the payload sizes are
+ * printed once per trial, since JMH only reports time.
+ *
+ * Compression uses {@link GZIPOutputStream} at its default level, as the
+ * servlet container does when {@code server.compression.enabled} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({ "10000" })
+    private int size;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "none", "gzip" })
+    private String compression;
+
+    private ObjectMapper objectMapper;
+    private List<TrainingCentreView> views;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        views = SyntheticCatalog.centres(0, size).stream().map(TrainingCentreView::of).toList();
+        System.out.printf("%n%s/%s payload for %d centres: %d bytes%n", format, compression, size, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        final var buffer = new ByteArrayOutputStream();
+        if ("gzip".equals(compression)) {
+            try (var gzip = new GZIPOutputStream(buffer)) {
+                objectMapper.writeValue(gzip, views);
+            }
+        } else {
+            objectMapper.writeValue(buffer, views);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,102 @@
+package com.org.Traini8.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares loading training centres as managed entities with loading them as
+ * read-only {@link TrainingCentreView} projections, for one search page and for
+ * the whole catalog. Both sides fetch courses in the same joined SELECT, so
+ * the difference is the cost of entity hydration and persistence-context
+ * bookkeeping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadProjectionBenchmark {
+
+    private static final String ENTITY_PAGE_JPQL = """
+            SELECT DISTINCT t FROM TrainingCentre t LEFT JOIN FETCH t.coursesOffered
+            WHERE t.centerCode IN :centerCodes ORDER BY t.centerCode
+            """;
+
+    @Param("10000")
+    private int rows;
+
+    @Param("100")
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TrainingCenterRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private List<String> pageCodes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        repository = context.getBean(TrainingCenterRepository.class);
+        entityManager = SharedEntityManagerCreator
+                .createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        final var from = rows / 2;
+        pageCodes = LongStream.range(from, Math.min(from + pageSize, rows)).mapToObj(SyntheticCatalog::centerCode)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TrainingCentre> entityPage() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(ENTITY_PAGE_JPQL, TrainingCentre.class)
+                .setParameter("centerCodes", pageCodes).getResultList());
+    }
+
+    @Benchmark
+    public List<TrainingCentreView> viewPage() {
+        return readOnlyTransaction.execute(status -> repository.findViewsByCenterCodes(pageCodes));
+    }
+
+    @Benchmark
+    public List<TrainingCentre> entityCatalog() {
+        return repository.findAll();
+    }
+
+    @Benchmark
+    public List<TrainingCentreView> viewCatalog() {
+        return readOnlyTransaction.execute(status -> repository.findAllViews());
+    }
+}
@@ -0,0 +1,71 @@
+package com.org.Traini8.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.BulkRegistrationResponse;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Measures registration throughput on top of a seeded catalog: single
+ * registrations through {@code saveTrainingCentre} and batched ones through
+ * {@code saveTrainingCentres}. Every invocation registers centres with fresh
+ * ordinals beyond the seeded range, so no call fails as a duplicate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param("10000")
+    private int rows;
+
+    @Param("100")
+    private int bulkSize;
+
+    private ConfigurableApplicationContext context;
+    private TrainingCenterRegistrationService registrationService;
+    private AtomicLong nextOrdinal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        registrationService = context.getBean(TrainingCenterRegistrationService.class);
+        nextOrdinal = new AtomicLong(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TrainingCentre registerOne() {
+        return registrationService.saveTrainingCentre(SyntheticCatalog.centre(nextOrdinal.getAndIncrement()));
+    }
+
+    @Benchmark
+    public BulkRegistrationResponse registerBulk() {
+        return registrationService
+                .saveTrainingCentres(SyntheticCatalog.centres(nextOrdinal.getAndAdd(bulkSize), bulkSize));
+    }
+}
@@ -0,0 +1,147 @@
+package com.org.Traini8.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentrePage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Measures one page of a training centre search for each
+ * {@link SearchFilter} combination.
+ *
+ * {@link #searchPage()} is the full service call: filter query plus view
+ * hydration. {@link #filterQuery()} isolates the dynamically built filter
+ * query, and {@link #legacyFilterQuery()} runs the catch-all JPQL it replaced
+ * with the same criteria, as a baseline for the query builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    /**
+     * The catch-all search query used before filters were applied selectively.
+     * Hibernate 6 rejects {@code :courses IS NULL} for a collection parameter,
+     * so the absent course filter is expressed with a boolean flag instead.
+     */
+    private static final String LEGACY_JPQL = """
+            SELECT t.centerCode FROM TrainingCentre t
+            LEFT JOIN t.coursesOffered c
+            WHERE (:centerCode IS NULL OR t.centerCode LIKE :centerCode ESCAPE '!')
+            AND (:centerName IS NULL OR t.centerNameKey LIKE :centerName ESCAPE '!')
+            AND (:minCapacity IS NULL OR t.studentCapacity >= :minCapacity)
+            AND (:maxCapacity IS NULL OR t.studentCapacity <= :maxCapacity)
+            AND (:contactEmail IS NULL OR t.contactEmailKey LIKE :contactEmail ESCAPE '!')
+            AND (:contactPhone IS NULL OR t.contactPhone LIKE :contactPhone ESCAPE '!')
+            AND (:city IS NULL OR t.address.cityKey LIKE :city ESCAPE '!')
+            AND (:state IS NULL OR t.address.stateKey LIKE :state ESCAPE '!')
+            AND (:pincode IS NULL OR t.address.pincode = :pincode)
+            AND (:anyCourse = TRUE OR c IN :courses)
+            GROUP BY t.centerCode
+            ORDER BY t.centerCode
+            """;
+
+    @Param("10000")
+    private int rows;
+
+    @Param({ "NONE", "CITY_PREFIX", "STATE_AND_CITY", "CAPACITY_RANGE", "COURSE", "COURSES_AND_CAPACITY",
+            "NAME_CONTAINS", "EMAIL_EXACT" })
+    private SearchFilter filter;
+
+    @Param("20")
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TrainingCenterRetreiveService retreiveService;
+    private TrainingCenterRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        retreiveService = context.getBean(TrainingCenterRetreiveService.class);
+        repository = context.getBean(TrainingCenterRepository.class);
+        entityManager = SharedEntityManagerCreator
+                .createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TrainingCentrePage searchPage() {
+        return retreiveService.findByMultipleCriteria(filter.criteria(), null, pageSize);
+    }
+
+    @Benchmark
+    public List<String> filterQuery() {
+        return readOnlyTransaction.execute(status -> repository.findCenterCodes(filter.criteria(), null, pageSize + 1));
+    }
+
+    @Benchmark
+    public List<String> legacyFilterQuery() {
+        final var criteria = filter.criteria();
+        final var mode = criteria.matchMode();
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(LEGACY_JPQL, String.class)
+                .setParameter("centerCode", pattern(criteria.centerCode(), mode))
+                .setParameter("centerName", pattern(criteria.centerName(), mode))
+                .setParameter("minCapacity", criteria.minCapacity())
+                .setParameter("maxCapacity", criteria.maxCapacity())
+                .setParameter("contactEmail", pattern(criteria.contactEmail(), mode))
+                .setParameter("contactPhone", pattern(criteria.contactPhone(), mode))
+                .setParameter("city", pattern(criteria.city(), mode))
+                .setParameter("state", pattern(criteria.state(), mode))
+                .setParameter("pincode", criteria.pincode())
+                .setParameter("anyCourse", !criteria.hasCourses())
+                .setParameter("courses", criteria.hasCourses() ? criteria.courses() : List.of(""))
+                .setMaxResults(pageSize + 1)
+                .getResultList());
+    }
+
+    /**
+     * Builds the LIKE pattern the legacy query expected for a text filter.
+     */
+    private static String pattern(final String value, final SearchMatchMode mode) {
+        if (value == null) {
+            return null;
+        }
+        final var escaped = value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return switch (mode) {
+        case EXACT -> escaped;
+        case PREFIX -> escaped + "%";
+        case CONTAINS -> "%" + escaped + "%";
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.org.Traini8.Benchmark;
+
+import java.util.List;
+
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+/**
+ * Filter combinations measured by {@link SearchBenchmark}. They cover an
+ * unfiltered listing, single indexed filters, a scan-only filter, course
+ * filters that need the collection table, and combinations of those.
+ */
+public enum SearchFilter {
+
+    /** No filter at all: a page of the whole catalog. */
+    NONE(new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null, null, null)),
+
+    /** City prefix, answered from the city key index. */
+    CITY_PREFIX(new TrainingCentreSearchCriteria(null, null, null, null, null, null, "Pu", null, null, null,
+            SearchMatchMode.PREFIX)),
+
+    /** Exact state and city, answered from the composite state/city index. */
+    STATE_AND_CITY(new TrainingCentreSearchCriteria(null, null, null, null, null, null, "Pune", "Maharashtra", null,
+            null, SearchMatchMode.EXACT)),
+
+    /** Capacity range only. */
+    CAPACITY_RANGE(new TrainingCentreSearchCriteria(null, null, 200, 400, null, null, null, null, null, null, null)),
+
+    /** A single course. */
+    COURSE(new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null, List.of("Java"),
+            null)),
+
+    /** Any of two courses combined with a minimum capacity. */
+    COURSES_AND_CAPACITY(new TrainingCentreSearchCriteria(null, null, 500, null, null, null, null, null, null,
+            List.of("Java", "Python"), null)),
+
+    /** Center name substring: a full scan by design. */
+    NAME_CONTAINS(new TrainingCentreSearchCriteria(null, "Academy 12", null, null, null, null, null, null, null,
+            null, SearchMatchMode.CONTAINS)),
+
+    /** A single exact email, the most selective filter. */
+    EMAIL_EXACT(new TrainingCentreSearchCriteria(null, null, null, null, "centre4242@example.com", null, null, null,
+            null, null, SearchMatchMode.EXACT));
+
+    private final TrainingCentreSearchCriteria criteria;
+
+    SearchFilter(final TrainingCentreSearchCriteria criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * Returns the normalized criteria of this combination.
+     *
+     * @return the criteria.
+     */
+    public TrainingCentreSearchCriteria criteria() {
+        return criteria;
+    }
+}
@@ -0,0 +1,106 @@
+package com.org.Traini8.Benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.org.Traini8.pojo.Address;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Generates a reproducible synthetic catalog of training centres. The same
+ * ordinal always yields the same centre, so every benchmark fork and every
+ * run works on identical data and results stay comparable across releases.
+ *
+ * Values are drawn from small fixed vocabularies so that filters such as city,
+ * state or course select a realistic fraction of the catalog rather than one
+ * row or all of them.
+ */
+public final class SyntheticCatalog {
+
+    /** Seed shared by all generated data. Changing it invalidates recorded baselines. */
+    public static final long SEED = 0x7A1_18L;
+
+    static final String[][] CITIES = { { "Pune", "Maharashtra" }, { "Mumbai", "Maharashtra" },
+            { "Nagpur", "Maharashtra" }, { "Bengaluru", "Karnataka" }, { "Mysuru", "Karnataka" },
+            { "Chennai", "Tamil Nadu" }, { "Coimbatore", "Tamil Nadu" }, { "Hyderabad", "Telangana" },
+            { "Ahmedabad", "Gujarat" }, { "Surat", "Gujarat" }, { "Jaipur", "Rajasthan" }, { "Lucknow", "Uttar Pradesh" },
+            { "Kanpur", "Uttar Pradesh" }, { "Kolkata", "West Bengal" }, { "Delhi", "Delhi" }, { "Bhopal", "Madhya Pradesh" } };
+
+    static final String[] COURSES = { "Java", "Python", "Spring Boot", "React", "Angular", "Data Science",
+            "Machine Learning", "DevOps", "AWS", "Azure", "SQL", "Kotlin", "Go", "Rust", "Testing", "UI Design" };
+
+    private static final String[] NAME_WORDS = { "Apex", "Bright", "Code", "Delta", "Edge", "Future", "Genius",
+            "Horizon", "Insight", "Jupiter", "Kite", "Lumen", "Matrix", "Nova", "Orbit", "Pixel" };
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private SyntheticCatalog() {
+    }
+
+    /**
+     * Returns the center code of the given ordinal. Codes are 12 uppercase
+     * alphanumeric characters and sort in ordinal order.
+     *
+     * @param ordinal the position of the centre in the catalog.
+     * @return the center code.
+     */
+    public static String centerCode(final long ordinal) {
+        return String.format("TC%010d", ordinal);
+    }
+
+    /**
+     * Builds the centre with the given ordinal.
+     *
+     * @param ordinal the position of the centre in the catalog.
+     * @return a new, valid and not yet persisted training centre.
+     */
+    public static TrainingCentre centre(final long ordinal) {
+        final var random = new Random(SEED ^ ordinal * 0x9E3779B97F4A7C15L);
+        final var city = CITIES[random.nextInt(CITIES.length)];
+
+        final var address = new Address();
+        address.setDetailedAddress((1 + random.nextInt(400)) + " " + NAME_WORDS[random.nextInt(NAME_WORDS.length)]
+                + " Road");
+        address.setCity(city[0]);
+        address.setState(city[1]);
+        address.setPincode(String.format("%06d", 110000 + random.nextInt(800000)));
+
+        final List<String> courses = new ArrayList<>();
+        final int courseCount = 1 + random.nextInt(4);
+        while (courses.size() < courseCount) {
+            final var course = COURSES[random.nextInt(COURSES.length)];
+            if (!courses.contains(course)) {
+                courses.add(course);
+            }
+        }
+
+        final var centre = new TrainingCentre();
+        centre.setCenterCode(centerCode(ordinal));
+        centre.setCenterName(NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " "
+                + NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " Academy " + ordinal);
+        centre.setAddress(address);
+        centre.setStudentCapacity(10 + random.nextInt(991));
+        centre.setCoursesOffered(courses);
+        centre.setCreatedOn(EPOCH.plusMinutes(ordinal));
+        centre.setContactEmail("centre" + ordinal + "@example.com");
+        centre.setContactPhone("+91" + (7000000000L + random.nextInt(999999999)));
+        return centre;
+    }
+
+    /**
+     * Builds the centres with ordinals {@code [from, from + count)}.
+     *
+     * @param from  the first ordinal.
+     * @param count the number of centres.
+     * @return the centres, in ordinal order.
+     */
+    public static List<TrainingCentre> centres(final long from, final int count) {
+        final List<TrainingCentre> centres = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            centres.add(centre(from + i));
+        }
+        return centres;
+    }
+}
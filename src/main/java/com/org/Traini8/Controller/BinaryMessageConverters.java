@@ -0,0 +1,78 @@
+package com.org.Traini8.Controller;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Registers compact binary encodings of every JSON response, selected by the
+ * {@code Accept} header: CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}). Both carry the same data model as
+ * the JSON body but encode numbers and lengths in binary; Smile also replaces
+ * repeated property names and short strings with back-references, which
+ * suits long arrays of centres with the same keys.
+ *
+ * The mappers are built from Spring Boot's {@link Jackson2ObjectMapperBuilder},
+ * so they honour the same Jackson settings and modules as the JSON mapper.
+ * Clients that send no {@code Accept} header, or {@code application/json},
+ * still get JSON. Because the body now depends on that header, API responses
+ * declare {@code Vary: Accept}, including 304 responses, so shared caches
+ * keep one copy per encoding.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryMessageConverters implements WebMvcConfigurer {
+
+    /**
+     * Creates the CBOR converter.
+     *
+     * @param builder Spring Boot's Jackson builder.
+     * @return the converter for {@code application/cbor}.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the Smile converter.
+     *
+     * @param builder Spring Boot's Jackson builder.
+     * @return the converter for {@code application/x-jackson-smile}.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            final Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Adds {@code Vary: Accept} to API responses before the handler runs, so
+     * it is also present when the handler answers 304 Not Modified.
+     *
+     * @param registry the interceptor registry.
+     */
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response,
+                    final Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
@@ -11,10 +11,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.SearchUnavailableException;
 import com.org.Traini8.ExceptionalHandling.CustomExceptions.TrainingCenterException;
 import com.org.Traini8.Service.TrainingCenterRetreiveService;
-import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.ServiceImplementations.TrainingCentreDataVersion;
+import com.org.Traini8.pojo.CourseMatchMode;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentreChangePage;
+import com.org.Traini8.pojo.TrainingCentreCount;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentrePage;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,6 +36,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 /**
  * Controller for handling HTTP requests related to the retrieval of training
  * centers.
+ *
+ * Search, count and facet responses carry an {@code ETag} and a
+ * {@code Last-Modified} header for the current
+ * {@link TrainingCentreDataVersion}. A request whose
+ * {@code If-None-Match} or {@code If-Modified-Since} header shows the client
+ * already has that version is answered with 304 Not Modified before any query
+ * runs.
  */
 @RestController
 @RequestMapping("/api/training-centers")
@@ -36,15 +53,25 @@ public class TrainingCenteresRetreiveController {
     @Autowired
     private TrainingCenterRetreiveService trainingCenterRetrieveService;
 
+    @Autowired
+    private TrainingCentreDataVersion dataVersion;
+
     /**
      * Retrieves training centers based on optional filter criteria. Always returns
-     * a JSON result.
+     * a JSON result. Results are paginated by center code; follow
+     * {@code nextPageToken} to fetch the following page. Text filters use prefix
+     * matching unless {@code match} selects {@code exact} or {@code contains}.
+     * Several courses match centres offering any of them unless
+     * {@code coursesMatch} selects {@code all}. With {@code q}, centres are
+     * matched by name and address with typo tolerance and ranked by relevance.
      */
-    @Operation(summary = "Retrieve training centers", description = "Fetches a list of training centers based on various optional filters such as center code, name, capacity, and contact details. Returns all centers if no filters are specified.")
+    @Operation(summary = "Retrieve training centers", description = "Fetches a page of training centers based on various optional filters such as center code, name, capacity, and contact details. Returns all centers, one page at a time, if no filters are specified.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of training centers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentre.class))),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of training centers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentrePage.class))),
             @ApiResponse(responseCode = "204", description = "No training centers found", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Not modified since the entity tag or date given by the client", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid parameters", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Text search requested before the search index has loaded", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json")) })
     @GetMapping
     public ResponseEntity<?> getTrainingCenters(
@@ -57,19 +84,186 @@ public class TrainingCenteresRetreiveController {
             @Parameter(description = "Filter by city") @RequestParam(value = "city", required = false) final String city,
             @Parameter(description = "Filter by state") @RequestParam(value = "state", required = false) final String state,
             @Parameter(description = "Filter by pincode") @RequestParam(value = "pincode", required = false) final String pincode,
-            @Parameter(description = "Filter by courses offered") @RequestParam(value = "courses", required = false) final List<String> courses) {
+            @Parameter(description = "Filter by courses offered") @RequestParam(value = "courses", required = false) final List<String> courses,
+            @Parameter(description = "Whether centers must offer any (default) or all of the given courses") @RequestParam(value = "coursesMatch", required = false) final String coursesMatch,
+            @Parameter(description = "Typo-tolerant text search over center name and address; results are ranked by relevance") @RequestParam(value = "q", required = false) final String q,
+            @Parameter(description = "How text filters match: exact, prefix (default) or contains; contains is slower") @RequestParam(value = "match", required = false) final String match,
+            @Parameter(description = "Opaque token returned as nextPageToken by the previous page") @RequestParam(value = "pageToken", required = false) final String pageToken,
+            @Parameter(description = "Number of centers per page; capped by the server") @RequestParam(value = "pageSize", required = false) final Integer pageSize,
+            final WebRequest webRequest) {
+
+        final var matchMode = parseMatchMode(match);
+        final var courseMatch = parseCourseMatch(coursesMatch);
+        if (webRequest.checkNotModified(dataVersion.etag(), dataVersion.lastModified())) {
+            return null; // 304 Not Modified, without touching the database
+        }
 
         try {
-            final var trainingCenters = trainingCenterRetrieveService.findByMultipleCriteria(centerCode, centerName,
-                    minCapacity, maxCapacity, contactEmail, contactPhone, city, state, pincode, courses);
-            if (trainingCenters.isEmpty()) {
+            final var criteria = new TrainingCentreSearchCriteria(centerCode, centerName, minCapacity, maxCapacity,
+                    contactEmail, contactPhone, city, state, pincode, courses, matchMode, courseMatch, q);
+            final var page = trainingCenterRetrieveService.findByMultipleCriteria(criteria, pageToken, pageSize);
+            if (page.getItems().isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NO_CONTENT).body("{}"); // Return empty JSON object on no
                                                                                 // content
             }
-            return ResponseEntity.ok(trainingCenters);
+            return ResponseEntity.ok(page);
+        } catch (final InvalidSearchRequestException | SearchUnavailableException e) {
+            throw e; // Reported as 400 or 503 by the global handler
         } catch (final Exception e) {
             logger.error("Error while fetching training centers", e);
             throw new TrainingCenterException("Failed to retrieve training centers", e);
         }
     }
+
+    /**
+     * Counts the training centers matching optional filter criteria. Accepts the
+     * same filters as {@link #getTrainingCenters} and applies them the same way.
+     * Location and course filters are answered from memory.
+     */
+    @Operation(summary = "Count training centers", description = "Returns the number of training centers matching the same optional filters as the search endpoint. Returns the total number of centers if no filters are specified.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully counted the matching training centers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentreCount.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the entity tag or date given by the client", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Text search requested before the search index has loaded", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json")) })
+    @GetMapping("/count")
+    public ResponseEntity<TrainingCentreCount> countTrainingCenters(
+            @Parameter(description = "Filter by center code") @RequestParam(value = "centerCode", required = false) final String centerCode,
+            @Parameter(description = "Filter by center name") @RequestParam(value = "centerName", required = false) final String centerName,
+            @Parameter(description = "Minimum capacity filter") @RequestParam(value = "minCapacity", required = false) final Integer minCapacity,
+            @Parameter(description = "Maximum capacity filter") @RequestParam(value = "maxCapacity", required = false) final Integer maxCapacity,
+            @Parameter(description = "Filter by contact email") @RequestParam(value = "contactEmail", required = false) final String contactEmail,
+            @Parameter(description = "Filter by contact phone number") @RequestParam(value = "contactPhone", required = false) final String contactPhone,
+            @Parameter(description = "Filter by city") @RequestParam(value = "city", required = false) final String city,
+            @Parameter(description = "Filter by state") @RequestParam(value = "state", required = false) final String state,
+            @Parameter(description = "Filter by pincode") @RequestParam(value = "pincode", required = false) final String pincode,
+            @Parameter(description = "Filter by courses offered") @RequestParam(value = "courses", required = false) final List<String> courses,
+            @Parameter(description = "Whether centers must offer any (default) or all of the given courses") @RequestParam(value = "coursesMatch", required = false) final String coursesMatch,
+            @Parameter(description = "Typo-tolerant text search over center name and address; results are ranked by relevance") @RequestParam(value = "q", required = false) final String q,
+            @Parameter(description = "How text filters match: exact, prefix (default) or contains; contains is slower") @RequestParam(value = "match", required = false) final String match,
+            final WebRequest webRequest) {
+
+        final var matchMode = parseMatchMode(match);
+        final var courseMatch = parseCourseMatch(coursesMatch);
+        if (webRequest.checkNotModified(dataVersion.etag(), dataVersion.lastModified())) {
+            return null; // 304 Not Modified, without touching the database
+        }
+
+        try {
+            final var criteria = new TrainingCentreSearchCriteria(centerCode, centerName, minCapacity, maxCapacity,
+                    contactEmail, contactPhone, city, state, pincode, courses, matchMode, courseMatch, q);
+            return ResponseEntity.ok(
+                    new TrainingCentreCount(trainingCenterRetrieveService.countByMultipleCriteria(criteria)));
+        } catch (final InvalidSearchRequestException | SearchUnavailableException e) {
+            throw e; // Reported as 400 or 503 by the global handler
+        } catch (final Exception e) {
+            logger.error("Error while counting training centers", e);
+            throw new TrainingCenterException("Failed to count training centers", e);
+        }
+    }
+
+    /**
+     * Computes counts by state, city, course and capacity bucket over the
+     * training centers matching optional filter criteria. Accepts the same
+     * filters as {@link #getTrainingCenters} and applies them the same way.
+     * Centres are aggregated, never loaded.
+     */
+    @Operation(summary = "Facet training centers", description = "Returns the number of training centers per state, city, course and capacity bucket among those matching the same optional filters as the search endpoint.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed the facets of the matching training centers", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentreFacets.class))),
+            @ApiResponse(responseCode = "304", description = "Not modified since the entity tag or date given by the client", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Text search requested before the search index has loaded", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json")) })
+    @GetMapping("/facets")
+    public ResponseEntity<TrainingCentreFacets> getTrainingCenterFacets(
+            @Parameter(description = "Filter by center code") @RequestParam(value = "centerCode", required = false) final String centerCode,
+            @Parameter(description = "Filter by center name") @RequestParam(value = "centerName", required = false) final String centerName,
+            @Parameter(description = "Minimum capacity filter") @RequestParam(value = "minCapacity", required = false) final Integer minCapacity,
+            @Parameter(description = "Maximum capacity filter") @RequestParam(value = "maxCapacity", required = false) final Integer maxCapacity,
+            @Parameter(description = "Filter by contact email") @RequestParam(value = "contactEmail", required = false) final String contactEmail,
+            @Parameter(description = "Filter by contact phone number") @RequestParam(value = "contactPhone", required = false) final String contactPhone,
+            @Parameter(description = "Filter by city") @RequestParam(value = "city", required = false) final String city,
+            @Parameter(description = "Filter by state") @RequestParam(value = "state", required = false) final String state,
+            @Parameter(description = "Filter by pincode") @RequestParam(value = "pincode", required = false) final String pincode,
+            @Parameter(description = "Filter by courses offered") @RequestParam(value = "courses", required = false) final List<String> courses,
+            @Parameter(description = "Whether centers must offer any (default) or all of the given courses") @RequestParam(value = "coursesMatch", required = false) final String coursesMatch,
+            @Parameter(description = "Typo-tolerant text search over center name and address; results are ranked by relevance") @RequestParam(value = "q", required = false) final String q,
+            @Parameter(description = "How text filters match: exact, prefix (default) or contains; contains is slower") @RequestParam(value = "match", required = false) final String match,
+            final WebRequest webRequest) {
+
+        final var matchMode = parseMatchMode(match);
+        final var courseMatch = parseCourseMatch(coursesMatch);
+        if (webRequest.checkNotModified(dataVersion.etag(), dataVersion.lastModified())) {
+            return null; // 304 Not Modified, without touching the database
+        }
+
+        try {
+            final var criteria = new TrainingCentreSearchCriteria(centerCode, centerName, minCapacity, maxCapacity,
+                    contactEmail, contactPhone, city, state, pincode, courses, matchMode, courseMatch, q);
+            return ResponseEntity.ok(trainingCenterRetrieveService.findFacets(criteria));
+        } catch (final InvalidSearchRequestException | SearchUnavailableException e) {
+            throw e; // Reported as 400 or 503 by the global handler
+        } catch (final Exception e) {
+            logger.error("Error while computing training center facets", e);
+            throw new TrainingCenterException("Failed to compute training center facets", e);
+        }
+    }
+
+    /**
+     * Retrieves the training centers registered after a position, oldest first,
+     * so that downstream copies can be kept in sync with the delta instead of
+     * re-reading the full list. Start with {@code since} (or nothing, for the
+     * whole catalog), then follow {@code nextCursor} while {@code hasMore} is
+     * true; store the last cursor and poll with it later. Conditional requests
+     * are not supported, since centres become visible as their settle delay
+     * passes.
+     */
+    @Operation(summary = "Retrieve training center changes", description = "Returns a page of training centers registered after the given cursor or watermark, ordered by creation time and then center code. Every page, including an empty one, carries the cursor to continue from.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a page of changes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentreChangePage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json")) })
+    @GetMapping("/changes")
+    public ResponseEntity<TrainingCentreChangePage> getTrainingCenterChanges(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page") @RequestParam(value = "cursor", required = false) final String cursor,
+            @Parameter(description = "Watermark in epoch milliseconds; only centers created later are returned") @RequestParam(value = "since", required = false) final Long since,
+            @Parameter(description = "Number of centers per page; capped by the server") @RequestParam(value = "pageSize", required = false) final Integer pageSize) {
+
+        try {
+            return ResponseEntity.ok(trainingCenterRetrieveService.findChanges(cursor, since, pageSize));
+        } catch (final InvalidSearchRequestException e) {
+            throw e; // Reported as 400 by the global handler
+        } catch (final Exception e) {
+            logger.error("Error while fetching training center changes", e);
+            throw new TrainingCenterException("Failed to retrieve training center changes", e);
+        }
+    }
+
+    /**
+     * Parses the {@code match} request parameter.
+     *
+     * @throws InvalidSearchRequestException if the mode is unknown.
+     */
+    private static SearchMatchMode parseMatchMode(final String match) {
+        try {
+            return SearchMatchMode.fromParameter(match);
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Unknown match mode: " + match);
+        }
+    }
+
+    /**
+     * Parses the {@code coursesMatch} request parameter.
+     *
+     * @throws InvalidSearchRequestException if the mode is unknown.
+     */
+    private static CourseMatchMode parseCourseMatch(final String coursesMatch) {
+        try {
+            return CourseMatchMode.fromParameter(coursesMatch);
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Unknown courses match mode: " + coursesMatch);
+        }
+    }
 }
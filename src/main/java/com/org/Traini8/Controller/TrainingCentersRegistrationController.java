@@ -1,24 +1,37 @@
 package com.org.Traini8.Controller;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.DuplicateTrainingCenterException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.IdempotencyKeyConflictException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.RegistrationQueueFullException;
 import com.org.Traini8.ExceptionalHandling.CustomExceptions.TrainingCenterRegistrationException;
 import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCentreRegistrationQueue;
+import com.org.Traini8.pojo.BulkRegistrationResponse;
+import com.org.Traini8.pojo.RegistrationRequestStatus;
 import com.org.Traini8.pojo.TrainingCentre;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,9 +49,20 @@ public class TrainingCentersRegistrationController {
 
     private static final Logger logger = LoggerFactory.getLogger(TrainingCentersRegistrationController.class);
 
+    /** Header carrying the client's idempotency key for asynchronous registration. */
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     @Autowired
     private TrainingCenterRegistrationService trainingCenterService;
 
+    @Autowired
+    private TrainingCentreRegistrationQueue registrationQueue;
+
+    @Value("${traini8.registration.max-bulk-size:10000}")
+    private int maxBulkSize;
+
     /**
      * Registers a new training center using the provided data in the POST request
      * body. Data must comply with Jakarta Bean Validation constraints defined in
@@ -48,6 +72,8 @@ public class TrainingCentersRegistrationController {
      *                       must be valid.
      * @return ResponseEntity containing the registered {@link TrainingCentre} and
      *         HTTP status OK.
+     * @throws DuplicateTrainingCenterException    if the center code is already
+     *                                             registered.
      * @throws TrainingCenterRegistrationException if registration fails due to
      *                                             server-related issues.
      */
@@ -55,18 +81,124 @@ public class TrainingCentersRegistrationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Training center registered successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = TrainingCentre.class))),
             @ApiResponse(responseCode = "400", description = "Invalid training center data provided", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A training center with this center code already exists", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "500", description = "Internal server error while registering the training center") })
     @PostMapping
     public ResponseEntity<?> createTrainingCenter(@RequestBody @Valid final TrainingCentre trainingCentre) {
         try {
             final var savedTrainingCentre = trainingCenterService.saveTrainingCentre(trainingCentre);
             return ResponseEntity.ok(savedTrainingCentre);
+        } catch (final DuplicateTrainingCenterException ex) {
+            throw ex; // Client error; reported as 409 by the global handler
         } catch (final Exception ex) {
             logger.error("Error creating training center", ex);
             throw new TrainingCenterRegistrationException("Error creating training center: " + ex.getMessage(), ex);
         }
     }
 
+    /**
+     * Registers many training centers in one request. Each item is validated
+     * individually; invalid and duplicate items are reported in the response
+     * instead of failing the whole request.
+     *
+     * @param trainingCentres the {@link TrainingCentre} objects to be registered.
+     * @return ResponseEntity containing a {@link BulkRegistrationResponse} with one
+     *         result per item and HTTP status OK, or HTTP status BAD_REQUEST if
+     *         the request is empty or too large.
+     * @throws TrainingCenterRegistrationException if registration fails due to
+     *                                             server-related issues.
+     */
+    @Operation(summary = "Register training centers in bulk", description = "Validates and stores a batch of training centers using batched inserts. Returns a per-item result with status CREATED, INVALID, DUPLICATE or FAILED.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkRegistrationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error while registering the training centers") })
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createTrainingCenters(@RequestBody final List<TrainingCentre> trainingCentres) {
+        if (trainingCentres == null || trainingCentres.isEmpty() || trainingCentres.size() > maxBulkSize) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("trainingCentres", "Batch must contain between 1 and " + maxBulkSize + " items"));
+        }
+        try {
+            return ResponseEntity.ok(trainingCenterService.saveTrainingCentres(trainingCentres));
+        } catch (final Exception ex) {
+            logger.error("Error creating training centers in bulk", ex);
+            throw new TrainingCenterRegistrationException("Error creating training centers: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Accepts training centers for asynchronous registration. Items are
+     * validated now and written later by background writers, in batches; the
+     * response only acknowledges them. Its {@code Location} header points to
+     * the status endpoint, which reports the outcome of each item.
+     *
+     * A client that is unsure whether its request arrived can send it again
+     * with the same {@code Idempotency-Key}: the first request's status is
+     * returned and nothing is registered twice.
+     *
+     * @param trainingCentres the {@link TrainingCentre} objects to be registered.
+     * @param idempotencyKey  optional client-chosen key identifying the request.
+     * @return ResponseEntity containing the {@link RegistrationRequestStatus} and
+     *         HTTP status ACCEPTED, or HTTP status BAD_REQUEST if the request is
+     *         empty or too large.
+     * @throws RegistrationQueueFullException      if the queue cannot take the
+     *                                             request; retry later.
+     * @throws IdempotencyKeyConflictException     if the key was used for other
+     *                                             centres.
+     * @throws TrainingCenterRegistrationException if queuing fails due to
+     *                                             server-related issues.
+     */
+    @Operation(summary = "Register training centers asynchronously", description = "Validates the training centers, queues them for batched write-behind registration and returns 202 with a status URL. Retries carrying the same Idempotency-Key return the original request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Request accepted; poll the Location URL for per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RegistrationRequestStatus.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch, or invalid idempotency key", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used for different training centers", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "503", description = "Registration queue is full; retry after the Retry-After delay", content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "500", description = "Internal server error while queuing the training centers") })
+    @PostMapping("/registrations")
+    public ResponseEntity<?> submitTrainingCenters(@RequestBody final List<TrainingCentre> trainingCentres,
+            @Parameter(description = "Client-chosen key that makes retries of the same request safe") @RequestHeader(value = IDEMPOTENCY_KEY, required = false) final String idempotencyKey) {
+        if (trainingCentres == null || trainingCentres.isEmpty() || trainingCentres.size() > maxBulkSize) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("trainingCentres", "Batch must contain between 1 and " + maxBulkSize + " items"));
+        }
+        if (idempotencyKey != null
+                && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            return ResponseEntity.badRequest().body(Map.of(IDEMPOTENCY_KEY,
+                    "Idempotency key must contain between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters"));
+        }
+        try {
+            final var status = registrationQueue.submit(trainingCentres, idempotencyKey);
+            final var location = ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{id}")
+                    .buildAndExpand(status.getId()).toUri();
+            return ResponseEntity.accepted().location(location).body(status);
+        } catch (final RegistrationQueueFullException | IdempotencyKeyConflictException ex) {
+            throw ex; // Reported as 503 or 422 by the global handler
+        } catch (final Exception ex) {
+            logger.error("Error queuing training centers", ex);
+            throw new TrainingCenterRegistrationException("Error queuing training centers: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reports the progress of an asynchronous registration request.
+     *
+     * @param id the request identifier returned when it was accepted.
+     * @return ResponseEntity containing the {@link RegistrationRequestStatus} and
+     *         HTTP status OK, or HTTP status NOT_FOUND if the request is unknown
+     *         or has expired.
+     */
+    @Operation(summary = "Get asynchronous registration status", description = "Returns the per-item outcome of an asynchronous registration request. Items not yet written are PENDING.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current status of the request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RegistrationRequestStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Unknown or expired request", content = @Content) })
+    @GetMapping("/registrations/{id}")
+    public ResponseEntity<RegistrationRequestStatus> getRegistrationStatus(
+            @Parameter(description = "Request identifier from the Location header") @PathVariable("id") final String id) {
+        return ResponseEntity.of(registrationQueue.status(id));
+    }
+
     /**
      * Custom exception handler for validation errors that may occur during training
      * center creation. Provides detailed feedback on what fields failed validation.
@@ -0,0 +1,138 @@
+package com.org.Traini8.Controller;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.org.Traini8.Service.TrainingCentreExportService;
+import com.org.Traini8.ServiceImplementations.TrainingCentreDataVersion;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * Controller for streaming exports of the complete training center catalog,
+ * intended for bulk consumers such as data-warehouse loads. The number of
+ * exports running at once is capped, because each one holds a database
+ * connection for its whole duration.
+ *
+ * An export's permit is released when its body finishes, and also when the
+ * asynchronous request completes for any other reason: a client that
+ * disconnects, a timeout or an error before the body has run. Whichever comes
+ * first releases it; the other is a no-op.
+ */
+@RestController
+@RequestMapping("/api/training-centers")
+public class TrainingCentresExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentresExportController.class);
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final Object EXPORT_PERMIT = new Object(); // Key of the permit-releasing async interceptor
+
+    @Autowired
+    private TrainingCentreExportService trainingCentreExportService;
+
+    @Autowired
+    private TrainingCentreDataVersion dataVersion;
+
+    private final Semaphore exportPermits;
+
+    /**
+     * Creates the controller with a cap on concurrent exports.
+     *
+     * @param maxConcurrentExports the maximum number of exports streaming at once.
+     */
+    public TrainingCentresExportController(
+            @Value("${traini8.export.max-concurrent:2}") final int maxConcurrentExports) {
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * Streams every training center as NDJSON (default) or CSV. The response is
+     * written while rows are read from the database, in center code order.
+     *
+     * @param format     the output format, {@code ndjson} or {@code csv}.
+     * @param webRequest the request, checked against the catalog version.
+     * @return ResponseEntity with a streaming body, HTTP status BAD_REQUEST for an
+     *         unknown format, or TOO_MANY_REQUESTS if the export limit is reached;
+     *         null once a 304 Not Modified has been prepared.
+     */
+    @Operation(summary = "Export all training centers", description = "Streams the full training center catalog as newline-delimited JSON or CSV using constant server memory.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export stream", content = {
+                    @Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv") }),
+            @ApiResponse(responseCode = "304", description = "Catalog not modified since the client's copy", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Unknown export format", content = @Content),
+            @ApiResponse(responseCode = "429", description = "Too many exports running; retry later", content = @Content) })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTrainingCenters(
+            @Parameter(description = "Export format: ndjson (default) or csv") @RequestParam(value = "format", defaultValue = "ndjson") final String format,
+            final WebRequest webRequest) {
+        final var csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (webRequest.checkNotModified(dataVersion.etag(), dataVersion.lastModified())) {
+            return null; // 304 Not Modified; the client already has this catalog version
+        }
+        if (!exportPermits.tryAcquire()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "60").build();
+        }
+
+        final var permit = new AtomicBoolean(true);
+        final Runnable releasePermit = () -> {
+            if (permit.compareAndSet(true, false)) {
+                exportPermits.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_PERMIT,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(final NativeWebRequest request, final Callable<T> task) {
+                        releasePermit.run();
+                    }
+                });
+
+        final StreamingResponseBody body = outputStream -> {
+            try {
+                if (csv) {
+                    trainingCentreExportService.exportCsv(outputStream);
+                } else {
+                    trainingCentreExportService.exportNdjson(outputStream);
+                }
+            } catch (final RuntimeException e) {
+                logger.error("Training centre export aborted", e);
+                throw e;
+            } finally {
+                releasePermit.run();
+            }
+        };
+        return ResponseEntity.ok().contentType(csv ? new MediaType("text", "csv") : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"training-centres." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+}
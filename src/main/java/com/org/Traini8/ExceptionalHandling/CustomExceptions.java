@@ -65,4 +65,129 @@ public class CustomExceptions {
             super(message, cause);
         }
     }
+
+    /**
+     * Exception for search requests that are syntactically valid HTTP but cannot
+     * be served, such as a malformed page token or an out-of-range page size.
+     * These are client errors and are reported with a 400 status.
+     *
+     * The serialVersionUID is a unique identifier for Serializable classes. This is
+     * used to verify that the sender and receiver of a serialized object have
+     * loaded classes for that object that are compatible with respect to
+     * serialization.
+     */
+    public static class InvalidSearchRequestException extends RuntimeException {
+        private static final long serialVersionUID = 3920475162880432291L;
+
+        /**
+         * Constructs a new InvalidSearchRequestException with the specified detail
+         * message.
+         *
+         * @param message the detail message describing which part of the request
+         *                was rejected.
+         */
+        public InvalidSearchRequestException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception for registrations whose center code is already taken. It is
+     * raised when the database rejects the INSERT on its primary key, so it is
+     * reliable even when two requests race for the same code, and it is reported
+     * with a 409 status.
+     *
+     * The serialVersionUID is a unique identifier for Serializable classes. This is
+     * used to verify that the sender and receiver of a serialized object have
+     * loaded classes for that object that are compatible with respect to
+     * serialization.
+     */
+    public static class DuplicateTrainingCenterException extends RuntimeException {
+        private static final long serialVersionUID = -6410836942217185734L;
+
+        /**
+         * Constructs a new DuplicateTrainingCenterException with the specified
+         * detail message and cause.
+         *
+         * @param message the detail message.
+         * @param cause   the constraint violation reported by the database.
+         */
+        public DuplicateTrainingCenterException(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Exception for searches that need the in-memory search index while it is
+     * not available, for example a text search while the index is still
+     * loading after startup. The request may succeed if retried, so it is
+     * reported with a 503 status.
+     *
+     * The serialVersionUID is a unique identifier for Serializable classes. This is
+     * used to verify that the sender and receiver of a serialized object have
+     * loaded classes for that object that are compatible with respect to
+     * serialization.
+     */
+    public static class SearchUnavailableException extends RuntimeException {
+        private static final long serialVersionUID = 5517302846190735284L;
+
+        /**
+         * Constructs a new SearchUnavailableException with the specified detail
+         * message.
+         *
+         * @param message the detail message describing what is unavailable.
+         */
+        public SearchUnavailableException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception for asynchronous registrations that do not fit in the
+     * write-behind queue. Nothing of the request is queued, so the client may
+     * retry it unchanged later; it is reported with a 503 status and a
+     * {@code Retry-After} header.
+     *
+     * The serialVersionUID is a unique identifier for Serializable classes. This is
+     * used to verify that the sender and receiver of a serialized object have
+     * loaded classes for that object that are compatible with respect to
+     * serialization.
+     */
+    public static class RegistrationQueueFullException extends RuntimeException {
+        private static final long serialVersionUID = -2873659104173620954L;
+
+        /**
+         * Constructs a new RegistrationQueueFullException with the specified detail
+         * message.
+         *
+         * @param message the detail message.
+         */
+        public RegistrationQueueFullException(final String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception for an idempotency key that was already used with a different
+     * request body. Replaying the original request is safe; reusing its key for
+     * other centres is a client error, reported with a 422 status.
+     *
+     * The serialVersionUID is a unique identifier for Serializable classes. This is
+     * used to verify that the sender and receiver of a serialized object have
+     * loaded classes for that object that are compatible with respect to
+     * serialization.
+     */
+    public static class IdempotencyKeyConflictException extends RuntimeException {
+        private static final long serialVersionUID = 7730185262950914468L;
+
+        /**
+         * Constructs a new IdempotencyKeyConflictException with the specified
+         * detail message.
+         *
+         * @param message the detail message.
+         */
+        public IdempotencyKeyConflictException(final String message) {
+            super(message);
+        }
+    }
 }
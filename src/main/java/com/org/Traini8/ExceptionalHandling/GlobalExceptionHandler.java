@@ -4,20 +4,31 @@ import java.time.LocalDateTime;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.DuplicateTrainingCenterException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.IdempotencyKeyConflictException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.RegistrationQueueFullException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.SearchUnavailableException;
 import com.org.Traini8.ExceptionalHandling.CustomExceptions.TrainingCenterException;
 import com.org.Traini8.ExceptionalHandling.CustomExceptions.TrainingCenterRegistrationException;
 
 /**
  * Global exception handler for the application. This class catches and handles
  * exceptions thrown by any controller within the application, ensuring
- * consistent error responses.
+ * consistent error responses. Standard Spring MVC exceptions (missing or
+ * mistyped request parameters, unsupported media types and so on) keep their
+ * 4xx statuses through {@link ResponseEntityExceptionHandler}.
  */
-public class GlobalExceptionHandler {
+@RestControllerAdvice
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     // Logger instance for logging errors
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -87,4 +98,110 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Handles search requests that were rejected because of invalid paging or
+     * filter input. Catches InvalidSearchRequestException specifically.
+     *
+     * @param ex      The InvalidSearchRequestException that was caught.
+     * @param request The web request during which the exception occurred.
+     * @return A ResponseEntity object containing the error details.
+     */
+    @ExceptionHandler(InvalidSearchRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchRequestException(final InvalidSearchRequestException ex,
+            final WebRequest request) {
+        logger.warn("Invalid search request: {}", ex.getMessage()); // Client error, no stack trace needed
+
+        // Creating an ErrorResponse instance with specific error details
+        final var errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(), ex.getMessage(), request.getDescription(false));
+
+        // Return the ErrorResponse with HttpStatus.BAD_REQUEST
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles registrations rejected because the center code already exists.
+     * Catches DuplicateTrainingCenterException specifically.
+     *
+     * @param ex      The DuplicateTrainingCenterException that was caught.
+     * @param request The web request during which the exception occurred.
+     * @return A ResponseEntity object containing the error details.
+     */
+    @ExceptionHandler(DuplicateTrainingCenterException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateTrainingCenterException(
+            final DuplicateTrainingCenterException ex, final WebRequest request) {
+        logger.warn("Duplicate training center: {}", ex.getMessage()); // Client error, no stack trace needed
+
+        // Creating an ErrorResponse instance with specific error details
+        final var errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(), ex.getMessage(), request.getDescription(false));
+
+        // Return the ErrorResponse with HttpStatus.CONFLICT
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles searches that cannot be served until the search index is
+     * available. Catches SearchUnavailableException specifically.
+     *
+     * @param ex      The SearchUnavailableException that was caught.
+     * @param request The web request during which the exception occurred.
+     * @return A ResponseEntity object containing the error details.
+     */
+    @ExceptionHandler(SearchUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleSearchUnavailableException(final SearchUnavailableException ex,
+            final WebRequest request) {
+        logger.warn("Search unavailable: {}", ex.getMessage()); // Transient condition, no stack trace needed
+
+        // Creating an ErrorResponse instance with specific error details
+        final var errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), ex.getMessage(), request.getDescription(false));
+
+        // Return the ErrorResponse with HttpStatus.SERVICE_UNAVAILABLE
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles asynchronous registrations rejected because the write-behind queue
+     * is full. Catches RegistrationQueueFullException specifically.
+     *
+     * @param ex      The RegistrationQueueFullException that was caught.
+     * @param request The web request during which the exception occurred.
+     * @return A ResponseEntity object containing the error details and a
+     *         {@code Retry-After} header.
+     */
+    @ExceptionHandler(RegistrationQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleRegistrationQueueFullException(
+            final RegistrationQueueFullException ex, final WebRequest request) {
+        logger.warn("Registration queue full: {}", ex.getMessage()); // Transient condition, no stack trace needed
+
+        // Creating an ErrorResponse instance with specific error details
+        final var errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), ex.getMessage(), request.getDescription(false));
+
+        // Return the ErrorResponse with HttpStatus.SERVICE_UNAVAILABLE
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles idempotency keys reused for a different request. Catches
+     * IdempotencyKeyConflictException specifically.
+     *
+     * @param ex      The IdempotencyKeyConflictException that was caught.
+     * @param request The web request during which the exception occurred.
+     * @return A ResponseEntity object containing the error details.
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflictException(
+            final IdempotencyKeyConflictException ex, final WebRequest request) {
+        logger.warn("Idempotency key conflict: {}", ex.getMessage()); // Client error, no stack trace needed
+
+        // Creating an ErrorResponse instance with specific error details
+        final var errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), ex.getMessage(), request.getDescription(false));
+
+        // Return the ErrorResponse with HttpStatus.UNPROCESSABLE_ENTITY
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
 }
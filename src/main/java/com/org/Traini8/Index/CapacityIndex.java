@@ -0,0 +1,180 @@
+package com.org.Traini8.Index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Sorted index over student capacity. Each centre is one {@code long} entry
+ * holding its capacity in the high 32 bits and its ordinal in the low 32, so
+ * sorting the entries orders them by capacity and a capacity range is a
+ * contiguous run found by two binary searches.
+ *
+ * Centres are loaded in code order, not capacity order, so new entries go to
+ * a small unsorted tail that is sorted and merged into the main run once it
+ * grows past a fraction of it. Range queries binary search the main run and
+ * scan the tail.
+ *
+ * When other filters have already narrowed the candidates to fewer centres
+ * than the range holds, the capacities of just those candidates are checked
+ * instead, from a second array indexed by ordinal.
+ */
+final class CapacityIndex implements CentreIndexPart {
+
+    private static final int MIN_TAIL = 64;
+    private static final int NO_CAPACITY = Integer.MIN_VALUE;
+
+    private long[] sorted = new long[0];
+    private long[] tail = new long[MIN_TAIL];
+    private int tailSize;
+    private int[] capacityByOrdinal = new int[1024];
+    private int ordinalCount;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int ordinal, final TrainingCentreView centre) {
+        if (ordinal >= capacityByOrdinal.length) {
+            final var grown = Arrays.copyOf(capacityByOrdinal, Math.max(ordinal + 1, capacityByOrdinal.length * 2));
+            Arrays.fill(grown, capacityByOrdinal.length, grown.length, NO_CAPACITY);
+            capacityByOrdinal = grown;
+        }
+        ordinalCount = Math.max(ordinalCount, ordinal + 1);
+        final var capacity = centre.studentCapacity();
+        if (capacity == null) {
+            capacityByOrdinal[ordinal] = NO_CAPACITY;
+            return;
+        }
+        capacityByOrdinal[ordinal] = capacity;
+        if (tailSize == tail.length) {
+            merge();
+        }
+        tail[tailSize++] = entry(capacity, ordinal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> filterNames() {
+        return Set.of("minCapacity", "maxCapacity");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(final TrainingCentreSearchCriteria criteria) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet filter(final TrainingCentreSearchCriteria criteria, final BitSet candidates) {
+        if (criteria.minCapacity() == null && criteria.maxCapacity() == null) {
+            return null;
+        }
+        final int min = criteria.minCapacity() == null ? NO_CAPACITY + 1 : criteria.minCapacity();
+        final int max = criteria.maxCapacity() == null ? Integer.MAX_VALUE : criteria.maxCapacity();
+        final var result = new BitSet();
+        if (min > max) {
+            return result;
+        }
+        final var from = lowerBound(entry(min, 0));
+        final var to = upperBound(entry(max, -1));
+
+        if (candidates != null && candidates.cardinality() < to - from + tailSize) {
+            candidates.stream().filter(ordinal -> capacityByOrdinal[ordinal] >= min
+                    && capacityByOrdinal[ordinal] <= max).forEach(result::set);
+            return result;
+        }
+        for (int i = from; i < to; i++) {
+            result.set((int) sorted[i]);
+        }
+        for (int i = 0; i < tailSize; i++) {
+            final var capacity = (int) (tail[i] >> 32);
+            if (capacity >= min && capacity <= max) {
+                result.set((int) tail[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void countFacets(final BitSet candidates, final Map<String, Map<String, Long>> facets) {
+        final var buckets = new long[TrainingCentreFacets.CAPACITY_BUCKET_BOUNDS.size()];
+        final IntConsumer count = ordinal -> {
+            if (capacityByOrdinal[ordinal] != NO_CAPACITY) {
+                buckets[TrainingCentreFacets.capacityBucket(capacityByOrdinal[ordinal])]++;
+            }
+        };
+        if (candidates == null) {
+            IntStream.range(0, ordinalCount).forEach(count);
+        } else {
+            candidates.stream().forEach(count);
+        }
+        final Map<String, Long> bucketCounts = new HashMap<>();
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            bucketCounts.put(TrainingCentreFacets.capacityBucketLabel(bucket), buckets[bucket]);
+        }
+        facets.put(TrainingCentreFacets.CAPACITY, bucketCounts);
+    }
+
+    /**
+     * Packs a capacity and an ordinal so that entries sort by capacity, then
+     * ordinal.
+     */
+    private static long entry(final int capacity, final int ordinal) {
+        return (long) capacity << 32 | ordinal & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Returns the position of the first sorted entry at least the given value.
+     */
+    private int lowerBound(final long value) {
+        final var position = Arrays.binarySearch(sorted, value);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    /**
+     * Returns the position after the last sorted entry at most the given value.
+     */
+    private int upperBound(final long value) {
+        final var position = Arrays.binarySearch(sorted, value);
+        return position < 0 ? -position - 1 : position + 1;
+    }
+
+    /**
+     * Sorts the tail and merges it into the main run. The tail then grows to a
+     * sixteenth of the run, which keeps merges amortized and tail scans short.
+     */
+    private void merge() {
+        Arrays.sort(tail, 0, tailSize);
+        final var merged = new long[sorted.length + tailSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < sorted.length && j < tailSize) {
+            merged[k++] = sorted[i] <= tail[j] ? sorted[i++] : tail[j++];
+        }
+        System.arraycopy(sorted, i, merged, k, sorted.length - i);
+        System.arraycopy(tail, j, merged, k + sorted.length - i, tailSize - j);
+        sorted = merged;
+        tail = new long[Math.max(MIN_TAIL, sorted.length / 16)];
+        tailSize = 0;
+    }
+}
@@ -0,0 +1,88 @@
+package com.org.Traini8.Index;
+
+/**
+ * Packs center codes into {@code long} values. A center code is exactly 12
+ * characters from {@code [0-9A-Z]}, so it is a 12-digit base-36 number and
+ * fits into 63 bits. Digits sort before letters in both the character set and
+ * the numeric encoding, so packed codes compare exactly like the strings do.
+ */
+final class CentreCodes {
+
+    /** Length of every center code. */
+    static final int LENGTH = 12;
+
+    /** Returned by {@link #pack(String)} for a value that is not a center code. */
+    static final long INVALID = -1L;
+
+    private CentreCodes() {
+    }
+
+    /**
+     * Packs a center code.
+     *
+     * @param code the center code.
+     * @return the packed code, or {@link #INVALID} if the value is not 12
+     *         characters from {@code [0-9A-Z]}.
+     */
+    static long pack(final String code) {
+        if (code == null || code.length() != LENGTH) {
+            return INVALID;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            final int digit = digit(code.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            packed = packed * 36 + digit;
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the smallest packed code that sorts after the given value. The
+     * value may be shorter than a center code, in which case every code that
+     * starts with it sorts after it.
+     *
+     * @param after a center code or code prefix from {@code [0-9A-Z]}.
+     * @return the lower bound, or {@link #INVALID} if the value cannot be
+     *         compared with center codes.
+     */
+    static long lowerBoundAfter(final String after) {
+        if (after.length() == LENGTH) {
+            final var packed = pack(after);
+            return packed == INVALID ? INVALID : packed + 1;
+        }
+        if (after.length() > LENGTH) {
+            return INVALID;
+        }
+        return pack(after + "0".repeat(LENGTH - after.length()));
+    }
+
+    /**
+     * Unpacks a code produced by {@link #pack(String)}.
+     *
+     * @param packed the packed code.
+     * @return the center code.
+     */
+    static String unpack(final long packed) {
+        final var chars = new char[LENGTH];
+        long rest = packed;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            final int digit = (int) (rest % 36);
+            chars[i] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+            rest /= 36;
+        }
+        return new String(chars);
+    }
+
+    private static int digit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
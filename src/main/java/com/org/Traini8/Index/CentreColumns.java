@@ -0,0 +1,243 @@
+package com.org.Traini8.Index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.org.Traini8.pojo.AddressView;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Column store of every field of the indexed centres, from which
+ * {@link TrainingCentreView}s are rebuilt without the database.
+ *
+ * Each field is one array indexed by ordinal. The repetitive fields (state,
+ * city and course) are dictionary-encoded: every distinct value is stored
+ * once, and centres hold {@code int} ids into the dictionary. The courses of
+ * all centres are concatenated in one id array, with an offset array marking
+ * where each centre's courses start. Capacity, pincode and creation time are
+ * primitives. The free-text fields (name, detailed address, email, phone) are
+ * mostly unique, so each is stored as one UTF-8 byte array holding the values
+ * of all centres back to back, with an array of end offsets; this saves the
+ * object headers of one {@link String} and one array per value. These strings
+ * are decoded again when a view is built.
+ *
+ * Dictionaries match values exactly, not by search key: "Pune" and "pune"
+ * are separate entries, so a rebuilt view is identical to the stored row.
+ *
+ * Not thread-safe; {@link TrainingCentreIndex} guards it with its lock.
+ */
+final class CentreColumns {
+
+    private static final int NONE = -1;
+    private static final int IRREGULAR_PINCODE = -2;
+    private static final int NO_CAPACITY = Integer.MIN_VALUE;
+    private static final long NO_CREATED_ON = Long.MIN_VALUE;
+
+    private final Dictionary states = new Dictionary();
+    private final Dictionary cities = new Dictionary();
+    private final Dictionary courses = new Dictionary();
+
+    private final TextColumn names = new TextColumn();
+    private final TextColumn detailedAddresses = new TextColumn();
+    private final TextColumn contactEmails = new TextColumn();
+    private final TextColumn contactPhones = new TextColumn();
+    private int[] stateIds = new int[1024];
+    private int[] cityIds = new int[1024];
+    private int[] pincodes = new int[1024];
+    private int[] capacities = new int[1024];
+    private long[] createdOn = new long[1024];
+    private int[] courseStart = new int[1025];
+    private int[] courseIds = new int[4096];
+    private final BitSet withoutAddress = new BitSet();
+    private final Map<Integer, String> irregularPincodes = new HashMap<>();
+    private int size;
+
+    /**
+     * Appends a centre. Ordinals are assigned densely, so the centre goes to
+     * the next free row.
+     *
+     * @param ordinal the ordinal of the centre; must equal the current size.
+     * @param centre  the centre.
+     */
+    void add(final int ordinal, final TrainingCentreView centre) {
+        if (ordinal != size) {
+            throw new IllegalStateException("Expected ordinal " + size + " but got " + ordinal);
+        }
+        if (size == capacities.length) {
+            grow(size * 2);
+        }
+        names.add(ordinal, centre.centerName());
+        contactEmails.add(ordinal, centre.contactEmail());
+        contactPhones.add(ordinal, centre.contactPhone());
+        capacities[ordinal] = centre.studentCapacity() == null ? NO_CAPACITY : centre.studentCapacity();
+        createdOn[ordinal] = centre.createdOnEpochMilli() == null ? NO_CREATED_ON : centre.createdOnEpochMilli();
+
+        final var address = centre.address();
+        if (address == null) {
+            withoutAddress.set(ordinal);
+            detailedAddresses.add(ordinal, null);
+            stateIds[ordinal] = NONE;
+            cityIds[ordinal] = NONE;
+            pincodes[ordinal] = NONE;
+        } else {
+            detailedAddresses.add(ordinal, address.detailedAddress());
+            stateIds[ordinal] = states.idOf(address.state());
+            cityIds[ordinal] = cities.idOf(address.city());
+            pincodes[ordinal] = packPincode(address.pincode());
+            if (pincodes[ordinal] == IRREGULAR_PINCODE) {
+                irregularPincodes.put(ordinal, address.pincode());
+            }
+        }
+
+        final var start = courseStart[ordinal];
+        final var offered = centre.coursesOffered();
+        if (start + offered.size() > courseIds.length) {
+            courseIds = Arrays.copyOf(courseIds, Math.max(courseIds.length * 2, start + offered.size()));
+        }
+        for (int i = 0; i < offered.size(); i++) {
+            courseIds[start + i] = courses.idOf(offered.get(i));
+        }
+        courseStart[ordinal + 1] = start + offered.size();
+        size++;
+    }
+
+    /**
+     * Rebuilds the view of a centre. Repeated values are the shared dictionary
+     * instances.
+     *
+     * @param ordinal    an assigned ordinal.
+     * @param centerCode the center code of the ordinal.
+     * @return the view, equal to the one the centre was added with.
+     */
+    TrainingCentreView view(final int ordinal, final String centerCode) {
+        final AddressView address = withoutAddress.get(ordinal) ? null
+                : new AddressView(detailedAddresses.get(ordinal), cities.valueOf(cityIds[ordinal]),
+                        states.valueOf(stateIds[ordinal]), unpackPincode(ordinal));
+        final var from = courseStart[ordinal];
+        final var to = courseStart[ordinal + 1];
+        final var offered = new String[to - from];
+        for (int i = from; i < to; i++) {
+            offered[i - from] = courses.valueOf(courseIds[i]);
+        }
+        return new TrainingCentreView(centerCode, names.get(ordinal), address,
+                capacities[ordinal] == NO_CAPACITY ? null : capacities[ordinal],
+                Collections.unmodifiableList(Arrays.asList(offered)),
+                createdOn[ordinal] == NO_CREATED_ON ? null : createdOn[ordinal], contactEmails.get(ordinal),
+                contactPhones.get(ordinal));
+    }
+
+    /**
+     * Returns the number of distinct states, cities and courses, in that order.
+     *
+     * @return the dictionary sizes.
+     */
+    int[] dictionarySizes() {
+        return new int[] { states.size(), cities.size(), courses.size() };
+    }
+
+    private void grow(final int capacity) {
+        stateIds = Arrays.copyOf(stateIds, capacity);
+        cityIds = Arrays.copyOf(cityIds, capacity);
+        pincodes = Arrays.copyOf(pincodes, capacity);
+        capacities = Arrays.copyOf(capacities, capacity);
+        createdOn = Arrays.copyOf(createdOn, capacity);
+        courseStart = Arrays.copyOf(courseStart, capacity + 1);
+    }
+
+    /**
+     * Packs a 6-digit pincode into an int; other values are marked for the
+     * side table.
+     */
+    private static int packPincode(final String pincode) {
+        if (pincode == null) {
+            return NONE;
+        }
+        if (pincode.length() != 6) {
+            return IRREGULAR_PINCODE;
+        }
+        int packed = 0;
+        for (int i = 0; i < 6; i++) {
+            final var c = pincode.charAt(i);
+            if (c < '0' || c > '9') {
+                return IRREGULAR_PINCODE;
+            }
+            packed = packed * 10 + c - '0';
+        }
+        return packed;
+    }
+
+    private String unpackPincode(final int ordinal) {
+        final var packed = pincodes[ordinal];
+        if (packed == NONE) {
+            return null;
+        }
+        if (packed == IRREGULAR_PINCODE) {
+            return irregularPincodes.get(ordinal);
+        }
+        final var digits = Integer.toString(packed);
+        return "0".repeat(6 - digits.length()) + digits;
+    }
+
+    /** Distinct values of one column, each with a dense id. */
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        private int idOf(final String value) {
+            if (value == null) {
+                return NONE;
+            }
+            return ids.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        private String valueOf(final int id) {
+            return id == NONE ? null : values.get(id);
+        }
+
+        private int size() {
+            return values.size();
+        }
+    }
+
+    /** Strings of one column, UTF-8 encoded back to back. */
+    private static final class TextColumn {
+        private byte[] bytes = new byte[16 * 1024];
+        private int[] ends = new int[1024];
+        private final BitSet nulls = new BitSet();
+        private int length;
+
+        private void add(final int ordinal, final String value) {
+            if (ordinal == ends.length) {
+                ends = Arrays.copyOf(ends, ends.length * 2);
+            }
+            if (value == null) {
+                nulls.set(ordinal);
+            } else {
+                final var encoded = value.getBytes(StandardCharsets.UTF_8);
+                if (length + encoded.length > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + encoded.length));
+                }
+                System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                length += encoded.length;
+            }
+            ends[ordinal] = length;
+        }
+
+        private String get(final int ordinal) {
+            if (nulls.get(ordinal)) {
+                return null;
+            }
+            final var start = ordinal == 0 ? 0 : ends[ordinal - 1];
+            return new String(bytes, start, ends[ordinal] - start, StandardCharsets.UTF_8);
+        }
+    }
+}
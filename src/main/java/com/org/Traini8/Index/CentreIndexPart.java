@@ -0,0 +1,70 @@
+package com.org.Traini8.Index;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * One in-memory index over the centres registered in a
+ * {@link TrainingCentreIndex}. Each part answers the filters it owns with a
+ * bit set of centre ordinals; the index intersects the answers of all parts.
+ *
+ * Parts are not thread-safe; the owning index calls them under its lock.
+ */
+interface CentreIndexPart {
+
+    /**
+     * Indexes a newly added centre.
+     *
+     * @param ordinal the ordinal assigned to the centre.
+     * @param centre  the centre.
+     */
+    void add(int ordinal, TrainingCentreView centre);
+
+    /**
+     * Returns the names of the filters this part evaluates, as listed in
+     * {@link TrainingCentreSearchCriteria#FILTER_NAMES}.
+     *
+     * @return the owned filter names.
+     */
+    Set<String> filterNames();
+
+    /**
+     * Tells whether this part can evaluate all of its filters that are present
+     * in the criteria. A part that returns false makes the whole search fall
+     * back to the database.
+     *
+     * @param criteria the search criteria.
+     * @return true if {@link #filter} would be exact for these criteria.
+     */
+    boolean supports(TrainingCentreSearchCriteria criteria);
+
+    /**
+     * Returns the ordinals of the centres that satisfy this part's filters.
+     * Parts run in order, and each receives the intersection of the answers of
+     * the parts before it. A part may use it to test only those candidates when
+     * that is cheaper; the result is intersected with it either way.
+     *
+     * @param criteria   the search criteria; {@link #supports} returned true.
+     * @param candidates the ordinals still matching, or null if no earlier part
+     *                   applied a filter; must not be modified.
+     * @return a new bit set of matching ordinals, or null if none of this part's
+     *         filters is present.
+     */
+    BitSet filter(TrainingCentreSearchCriteria criteria, BitSet candidates);
+
+    /**
+     * Adds this part's facet counts over the given centres, as a map of counts
+     * per facet name of {@link TrainingCentreFacets}. Parts without facets add
+     * nothing.
+     *
+     * @param candidates the ordinals to count, or null for all centres.
+     * @param facets     the counts per facet name to add to.
+     */
+    default void countFacets(final BitSet candidates, final Map<String, Map<String, Long>> facets) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.org.Traini8.Index;
+
+import java.util.Arrays;
+
+/**
+ * Assigns every indexed training centre a dense ordinal, starting at 0 in
+ * the order centres are added. Index parts keep their postings as bit sets
+ * over these ordinals.
+ *
+ * Centre codes are held packed (see {@link CentreCodes}) in two primitive
+ * arrays: one indexed by ordinal, and one listing the ordinals in center code
+ * order. The second array serves keyset pagination and code lookups by
+ * binary search. Centres are never updated or deleted, so ordinals are
+ * stable for the lifetime of the index.
+ *
+ * Not thread-safe; {@link TrainingCentreIndex} guards it with its lock.
+ */
+final class CentreOrdinals {
+
+    private long[] codeByOrdinal = new long[1024];
+    private int[] ordinalsByCode = new int[1024];
+    private int size;
+
+    /**
+     * Adds a centre and assigns it the next ordinal.
+     *
+     * @param packedCode the packed center code.
+     * @return the new ordinal, or -1 if the code is already present.
+     */
+    int add(final long packedCode) {
+        final var position = lowerBound(packedCode);
+        if (position < size && codeByOrdinal[ordinalsByCode[position]] == packedCode) {
+            return -1;
+        }
+        if (size == codeByOrdinal.length) {
+            codeByOrdinal = Arrays.copyOf(codeByOrdinal, size * 2);
+            ordinalsByCode = Arrays.copyOf(ordinalsByCode, size * 2);
+        }
+        final var ordinal = size;
+        codeByOrdinal[ordinal] = packedCode;
+        // Centres usually arrive in code order (initial load), which makes this a plain append
+        System.arraycopy(ordinalsByCode, position, ordinalsByCode, position + 1, size - position);
+        ordinalsByCode[position] = ordinal;
+        size++;
+        return ordinal;
+    }
+
+    /**
+     * Returns the number of centres.
+     *
+     * @return the number of assigned ordinals.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the center code of an ordinal.
+     *
+     * @param ordinal an assigned ordinal.
+     * @return the center code.
+     */
+    String codeOf(final int ordinal) {
+        return CentreCodes.unpack(codeByOrdinal[ordinal]);
+    }
+
+    /**
+     * Returns the packed center code of an ordinal.
+     *
+     * @param ordinal an assigned ordinal.
+     * @return the packed center code.
+     */
+    long packedCodeOf(final int ordinal) {
+        return codeByOrdinal[ordinal];
+    }
+
+    /**
+     * Looks up the ordinal of a center code.
+     *
+     * @param centerCode the center code.
+     * @return the ordinal, or -1 if the code is not indexed.
+     */
+    int ordinalOf(final String centerCode) {
+        final var packedCode = CentreCodes.pack(centerCode);
+        if (packedCode == CentreCodes.INVALID) {
+            return -1;
+        }
+        final var position = lowerBound(packedCode);
+        return position < size && codeByOrdinal[ordinalsByCode[position]] == packedCode ? ordinalsByCode[position]
+                : -1;
+    }
+
+    /**
+     * Returns the ordinal at a position in center code order.
+     *
+     * @param position a position between 0 and {@link #size()}.
+     * @return the ordinal of the centre with that rank.
+     */
+    int ordinalAt(final int position) {
+        return ordinalsByCode[position];
+    }
+
+    /**
+     * Returns the position, in center code order, of the first centre whose
+     * packed code is at least the given value.
+     *
+     * @param packedCode the lower bound.
+     * @return a position between 0 and {@link #size()}.
+     */
+    int lowerBound(final long packedCode) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (codeByOrdinal[ordinalsByCode[mid]] < packedCode) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,102 @@
+package com.org.Traini8.Index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.org.Traini8.pojo.CourseMatchMode;
+import com.org.Traini8.pojo.SearchKeys;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Inverted index from course name to the ordinals of the centres offering it.
+ * Course names are keyed case-insensitively, like the database collation
+ * compares them. Any-of queries are answered with a union of postings and
+ * all-of queries with an intersection, starting from the rarest course.
+ */
+final class CourseIndex implements CentreIndexPart {
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int ordinal, final TrainingCentreView centre) {
+        if (centre.coursesOffered() == null) {
+            return;
+        }
+        for (final String course : centre.coursesOffered()) {
+            final var key = SearchKeys.normalize(course);
+            if (key != null) {
+                postings.computeIfAbsent(key, k -> new Postings()).add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> filterNames() {
+        return Set.of("courses");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(final TrainingCentreSearchCriteria criteria) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet filter(final TrainingCentreSearchCriteria criteria, final BitSet candidates) {
+        if (!criteria.hasCourses()) {
+            return null;
+        }
+        final var result = new BitSet();
+        if (criteria.courseMatch() == CourseMatchMode.ALL) {
+            final List<Postings> required = new ArrayList<>();
+            for (final String course : criteria.courses()) {
+                final var posting = postings.get(SearchKeys.normalize(course));
+                if (posting == null) {
+                    return result;
+                }
+                required.add(posting);
+            }
+            required.sort(Comparator.comparingInt(Postings::size));
+            var matching = required.get(0).toBitSet();
+            for (int i = 1; i < required.size() && !matching.isEmpty(); i++) {
+                matching = required.get(i).intersect(matching);
+            }
+            return matching;
+        }
+        for (final String course : criteria.courses()) {
+            final var posting = postings.get(SearchKeys.normalize(course));
+            if (posting != null) {
+                posting.orInto(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void countFacets(final BitSet candidates, final Map<String, Map<String, Long>> facets) {
+        final Map<String, Long> courseCounts = new HashMap<>();
+        postings.forEach((course, posting) -> courseCounts.put(course, (long) posting.countIn(candidates)));
+        facets.put(TrainingCentreFacets.COURSES, courseCounts);
+    }
+}
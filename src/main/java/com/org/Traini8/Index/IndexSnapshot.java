@@ -0,0 +1,236 @@
+package com.org.Traini8.Index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.org.Traini8.pojo.AddressView;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Binary snapshot of the catalog on local disk, from which the index is
+ * restored at startup without scanning the table.
+ *
+ * Layout, big-endian:
+ * <ol>
+ * <li>header: magic, format {@value #VERSION}, time written, high-water mark
+ * (the latest {@code createdOn} in the snapshot) and number of centres;</li>
+ * <li>the {@code createdOn} of every centre as one {@code long} column, so
+ * the rows older than a given time can be counted without decoding
+ * centres;</li>
+ * <li>one record per centre, in center code order; strings are a length
+ * ({@code -1} for null) followed by UTF-8 bytes;</li>
+ * <li>a CRC-32 of everything before it.</li>
+ * </ol>
+ *
+ * A snapshot is written to a temporary file and then moved over the old one,
+ * so readers never see a partial file. It is read through a read-only memory
+ * mapping; the checksum is verified before anything is decoded.
+ */
+final class IndexSnapshot {
+
+    private static final int MAGIC = 0x54385358; // "T8SX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+    private static final long NO_CREATED_ON = Long.MIN_VALUE;
+    private static final int NO_CAPACITY = Integer.MIN_VALUE;
+
+    private final ByteBuffer buffer;
+    private final long highWaterMark;
+    private final int size;
+
+    private IndexSnapshot(final ByteBuffer buffer, final long highWaterMark, final int size) {
+        this.buffer = buffer;
+        this.highWaterMark = highWaterMark;
+        this.size = size;
+    }
+
+    /**
+     * Writes a snapshot atomically.
+     *
+     * @param path          the snapshot file.
+     * @param highWaterMark the latest creation time of the centres.
+     * @param size          the number of centres.
+     * @param centres       returns the centre at a position, in center code
+     *                      order; called twice per position.
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(final Path path, final long highWaterMark, final int size,
+            final IntFunction<TrainingCentreView> centres) throws IOException {
+        final var directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            final var checksum = new CRC32();
+            try (var out = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Files.newOutputStream(temporary), checksum), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                out.writeLong(highWaterMark);
+                out.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    final var createdOn = centres.apply(i).createdOnEpochMilli();
+                    out.writeLong(createdOn == null ? NO_CREATED_ON : createdOn);
+                }
+                for (int i = 0; i < size; i++) {
+                    writeCentre(out, centres.apply(i));
+                }
+                out.flush();
+                out.writeLong(checksum.getValue());
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps a snapshot file and verifies it.
+     *
+     * @param path the snapshot file.
+     * @return the snapshot.
+     * @throws IOException if the file cannot be read, or is not a valid
+     *                     snapshot of this format version.
+     */
+    static IndexSnapshot open(final Path path) throws IOException {
+        final ByteBuffer buffer;
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES + 8 || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot has an invalid size: " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a snapshot of format version " + VERSION);
+        }
+        final var checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(buffer.capacity() - 8));
+        if (checksum.getValue() != buffer.getLong(buffer.capacity() - 8)) {
+            throw new IOException("Snapshot checksum does not match");
+        }
+        final var size = buffer.getInt(HEADER_BYTES - 4);
+        if (size < 0 || HEADER_BYTES + 8L * size > buffer.capacity() - 8) {
+            throw new IOException("Snapshot has an invalid centre count: " + size);
+        }
+        return new IndexSnapshot(buffer, buffer.getLong(16), size);
+    }
+
+    /**
+     * Returns the latest creation time of the centres in the snapshot.
+     *
+     * @return the high-water mark in epoch milliseconds.
+     */
+    long highWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Returns the number of centres in the snapshot.
+     *
+     * @return the centre count.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Counts the centres created before a point in time, from the creation time
+     * column alone.
+     *
+     * @param createdOn the exclusive upper bound, in epoch milliseconds.
+     * @return the number of centres with a known, earlier creation time.
+     */
+    long countCreatedBefore(final long createdOn) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            final var value = buffer.getLong(HEADER_BYTES + 8 * i);
+            if (value != NO_CREATED_ON && value < createdOn) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Decodes every centre, in center code order.
+     *
+     * @param consumer receives each centre.
+     */
+    void forEach(final Consumer<TrainingCentreView> consumer) {
+        final var in = buffer.duplicate().position(HEADER_BYTES + 8 * size);
+        for (int i = 0; i < size; i++) {
+            final var createdOn = buffer.getLong(HEADER_BYTES + 8 * i);
+            consumer.accept(readCentre(in, createdOn == NO_CREATED_ON ? null : createdOn));
+        }
+    }
+
+    private static void writeCentre(final DataOutputStream out, final TrainingCentreView centre)
+            throws IOException {
+        writeString(out, centre.centerCode());
+        writeString(out, centre.centerName());
+        final var address = centre.address();
+        out.writeBoolean(address != null);
+        if (address != null) {
+            writeString(out, address.detailedAddress());
+            writeString(out, address.city());
+            writeString(out, address.state());
+            writeString(out, address.pincode());
+        }
+        out.writeInt(centre.studentCapacity() == null ? NO_CAPACITY : centre.studentCapacity());
+        out.writeInt(centre.coursesOffered().size());
+        for (final String course : centre.coursesOffered()) {
+            writeString(out, course);
+        }
+        writeString(out, centre.contactEmail());
+        writeString(out, centre.contactPhone());
+    }
+
+    private static TrainingCentreView readCentre(final ByteBuffer in, final Long createdOn) {
+        final var centerCode = readString(in);
+        final var centerName = readString(in);
+        final var address = in.get() == 0 ? null
+                : new AddressView(readString(in), readString(in), readString(in), readString(in));
+        final var capacity = in.getInt();
+        final var courseCount = in.getInt();
+        final List<String> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(readString(in));
+        }
+        return new TrainingCentreView(centerCode, centerName, address, capacity == NO_CAPACITY ? null : capacity,
+                courses, createdOn, readString(in), readString(in));
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        final var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final var length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,209 @@
+package com.org.Traini8.Index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.org.Traini8.pojo.AddressView;
+import com.org.Traini8.pojo.SearchKeys;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Location index over the state, city and pincode of each centre, organized
+ * as a state → city → pincode hierarchy.
+ *
+ * States and cities are keyed by their normalized search keys. Both are low
+ * cardinality, so prefix and contains filters are evaluated by scanning the
+ * keys rather than the centres. A 6-digit pincode is packed into an
+ * {@code int} and indexes a flat array directly. Each city node also keeps
+ * the sorted pincodes occurring in it, so a state + city + pincode lookup that
+ * cannot match is rejected without touching any postings.
+ */
+final class LocationIndex implements CentreIndexPart {
+
+    private static final int PINCODE_SLOTS = 1_000_000;
+
+    private final Map<String, StateNode> states = new HashMap<>();
+    private final Map<String, Postings> cities = new HashMap<>();
+    private final Postings[] byPincode = new Postings[PINCODE_SLOTS];
+    private final Map<String, Postings> irregularPincodes = new HashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int ordinal, final TrainingCentreView centre) {
+        final AddressView address = centre.address();
+        if (address == null) {
+            return;
+        }
+        final var stateKey = SearchKeys.normalize(address.state());
+        final var cityKey = SearchKeys.normalize(address.city());
+        final var pincode = packPincode(address.pincode());
+
+        if (stateKey != null) {
+            final var state = states.computeIfAbsent(stateKey, k -> new StateNode());
+            state.centres.add(ordinal);
+            if (cityKey != null) {
+                final var city = state.cities.computeIfAbsent(cityKey, k -> new CityNode());
+                city.centres.add(ordinal);
+                if (pincode >= 0) {
+                    city.addPincode(pincode);
+                }
+            }
+        }
+        if (cityKey != null) {
+            cities.computeIfAbsent(cityKey, k -> new Postings()).add(ordinal);
+        }
+        if (pincode >= 0) {
+            if (byPincode[pincode] == null) {
+                byPincode[pincode] = new Postings();
+            }
+            byPincode[pincode].add(ordinal);
+        } else if (address.pincode() != null) {
+            irregularPincodes.computeIfAbsent(address.pincode(), k -> new Postings()).add(ordinal);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> filterNames() {
+        return Set.of("state", "city", "pincode");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(final TrainingCentreSearchCriteria criteria) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet filter(final TrainingCentreSearchCriteria criteria, final BitSet candidates) {
+        final var state = criteria.state();
+        final var city = criteria.city();
+        final var pincode = criteria.pincode();
+        if (state == null && city == null && pincode == null) {
+            return null;
+        }
+        final var mode = criteria.matchMode();
+        final var packedPincode = pincode == null ? -1 : packPincode(pincode);
+        final var pincodePostings = pincode == null ? null
+                : packedPincode >= 0 ? byPincode[packedPincode] : irregularPincodes.get(pincode);
+        if (pincode != null && pincodePostings == null) {
+            return new BitSet();
+        }
+
+        BitSet result = null;
+        if (state != null) {
+            result = new BitSet();
+            for (final StateNode node : matching(states, state, mode)) {
+                if (city == null) {
+                    node.centres.orInto(result);
+                    continue;
+                }
+                for (final CityNode cityNode : matching(node.cities, city, mode)) {
+                    if (packedPincode < 0 || cityNode.hasPincode(packedPincode)) {
+                        cityNode.centres.orInto(result);
+                    }
+                }
+            }
+        } else if (city != null) {
+            result = new BitSet();
+            for (final Postings postings : matching(cities, city, mode)) {
+                postings.orInto(result);
+            }
+        }
+        if (pincodePostings == null) {
+            return result;
+        }
+        return result == null ? pincodePostings.toBitSet() : pincodePostings.intersect(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void countFacets(final BitSet candidates, final Map<String, Map<String, Long>> facets) {
+        final Map<String, Long> stateCounts = new HashMap<>();
+        states.forEach((state, node) -> stateCounts.put(state, (long) node.centres.countIn(candidates)));
+        facets.put(TrainingCentreFacets.STATES, stateCounts);
+        final Map<String, Long> cityCounts = new HashMap<>();
+        cities.forEach((city, postings) -> cityCounts.put(city, (long) postings.countIn(candidates)));
+        facets.put(TrainingCentreFacets.CITIES, cityCounts);
+    }
+
+    /**
+     * Returns the values whose normalized key matches the filter. Exact filters
+     * are a single lookup; the others scan the (few) keys.
+     */
+    private static <V> List<V> matching(final Map<String, V> nodes, final String filter,
+            final SearchMatchMode mode) {
+        if (mode == SearchMatchMode.EXACT) {
+            final var node = nodes.get(filter);
+            return node == null ? List.of() : List.of(node);
+        }
+        return nodes.entrySet().stream().filter(entry -> mode.matches(filter, entry.getKey()))
+                .map(Map.Entry::getValue).toList();
+    }
+
+    /**
+     * Packs a 6-digit pincode into an int.
+     *
+     * @return the pincode as a number, or -1 if it is not exactly 6 digits.
+     */
+    private static int packPincode(final String pincode) {
+        if (pincode == null || pincode.length() != 6) {
+            return -1;
+        }
+        int packed = 0;
+        for (int i = 0; i < 6; i++) {
+            final var c = pincode.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            packed = packed * 10 + c - '0';
+        }
+        return packed;
+    }
+
+    /** Centres of one state, with their cities. */
+    private static final class StateNode {
+        private final Postings centres = new Postings();
+        private final Map<String, CityNode> cities = new HashMap<>();
+    }
+
+    /** Centres of one city within a state, with the sorted pincodes seen there. */
+    private static final class CityNode {
+        private final Postings centres = new Postings();
+        private int[] pincodes = new int[0];
+
+        private void addPincode(final int pincode) {
+            final var position = Arrays.binarySearch(pincodes, pincode);
+            if (position < 0) {
+                final var insertAt = -position - 1;
+                final var grown = new int[pincodes.length + 1];
+                System.arraycopy(pincodes, 0, grown, 0, insertAt);
+                grown[insertAt] = pincode;
+                System.arraycopy(pincodes, insertAt, grown, insertAt + 1, pincodes.length - insertAt);
+                pincodes = grown;
+            }
+        }
+
+        private boolean hasPincode(final int pincode) {
+            return Arrays.binarySearch(pincodes, pincode) >= 0;
+        }
+    }
+}
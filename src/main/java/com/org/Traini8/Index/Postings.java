@@ -0,0 +1,143 @@
+package com.org.Traini8.Index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Set of centre ordinals for one index key. Ordinals are assigned in
+ * increasing order, so every add is an append. A small set is stored as a
+ * sorted {@code int} array; once it holds more than one ordinal in
+ * {@value #DENSITY} of the ordinal range, a bit set is smaller and it switches
+ * to one. This keeps rare keys (a pincode, a small town) at a few bytes and
+ * common ones (a popular course, a state) at one bit per centre.
+ */
+final class Postings {
+
+    /** Above one ordinal in this many, a bit set is smaller than an int array. */
+    static final int DENSITY = 32;
+
+    private int[] ordinals = new int[2];
+    private BitSet bits;
+    private int size;
+
+    /**
+     * Adds an ordinal not smaller than any ordinal added before. Adding the
+     * last ordinal again, as a centre listing the same course twice does, has
+     * no effect.
+     *
+     * @param ordinal the ordinal to add.
+     */
+    void add(final int ordinal) {
+        if (bits != null ? bits.get(ordinal) : size > 0 && ordinals[size - 1] == ordinal) {
+            return;
+        }
+        size++;
+        if (bits != null) {
+            bits.set(ordinal);
+            return;
+        }
+        if (size > ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, ordinals.length * 2);
+        }
+        ordinals[size - 1] = ordinal;
+        if (size >= DENSITY * 2 && (long) size * DENSITY > ordinal) {
+            bits = new BitSet(ordinal + 1);
+            for (int i = 0; i < size; i++) {
+                bits.set(ordinals[i]);
+            }
+            ordinals = null;
+        }
+    }
+
+    /**
+     * Returns the number of ordinals in the set.
+     *
+     * @return the set size.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Tells whether the set holds an ordinal.
+     *
+     * @param ordinal the ordinal to look up.
+     * @return true if the ordinal was added.
+     */
+    boolean contains(final int ordinal) {
+        return bits != null ? bits.get(ordinal) : Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * Counts the ordinals of this set that are also in {@code candidates}.
+     *
+     * @param candidates the ordinals to count within, or null for all.
+     * @return the size of the intersection.
+     */
+    int countIn(final BitSet candidates) {
+        if (candidates == null) {
+            return size;
+        }
+        if (bits != null) {
+            final var intersection = (BitSet) bits.clone();
+            intersection.and(candidates);
+            return intersection.cardinality();
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (candidates.get(ordinals[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds every ordinal of this set to the target.
+     *
+     * @param target the bit set to update.
+     */
+    void orInto(final BitSet target) {
+        if (bits != null) {
+            target.or(bits);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target.set(ordinals[i]);
+        }
+    }
+
+    /**
+     * Returns the set as a new bit set.
+     *
+     * @return a bit set the caller may modify.
+     */
+    BitSet toBitSet() {
+        final var result = new BitSet();
+        orInto(result);
+        return result;
+    }
+
+    /**
+     * Returns a new bit set of the ordinals in {@code candidates} that are also
+     * in this set. Cost is linear in the smaller of the two when this set is
+     * sparse.
+     *
+     * @param candidates the ordinals to intersect with; not modified.
+     * @return the intersection.
+     */
+    BitSet intersect(final BitSet candidates) {
+        if (bits != null) {
+            final var result = (BitSet) bits.clone();
+            result.and(candidates);
+            return result;
+        }
+        final var result = new BitSet();
+        for (int i = 0; i < size; i++) {
+            if (candidates.get(ordinals[i])) {
+                result.set(ordinals[i]);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package com.org.Traini8.Index;
+
+/**
+ * The center code of one text search result with its relevance score.
+ *
+ * @param centerCode the center code.
+ * @param score      the relevance score; higher ranks first.
+ */
+public record ScoredCenterCode(String centerCode, int score) {
+}
@@ -0,0 +1,143 @@
+package com.org.Traini8.Index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.org.Traini8.pojo.FuzzyText;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Trigram inverted index over center names and detailed addresses, answering
+ * the typo-tolerant text query with the matching and ranking rules of
+ * {@link FuzzyText}.
+ *
+ * A centre matches when it contains at least {@code k} of the {@code m} query
+ * trigrams, so it must contain at least one of any {@code m - k + 1} of them.
+ * Candidates are therefore collected from the postings of only the
+ * {@code m - k + 1} rarest query trigrams, and each candidate is then scored
+ * by looking it up in the postings of every query trigram. Common trigrams
+ * such as those of "centre" are never scanned unless the query has nothing
+ * rarer.
+ */
+final class TextIndex implements CentreIndexPart {
+
+    private final Map<String, Postings> names = new HashMap<>();
+    private final Map<String, Postings> addresses = new HashMap<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final int ordinal, final TrainingCentreView centre) {
+        for (final String trigram : FuzzyText.trigrams(centre.centerName())) {
+            names.computeIfAbsent(trigram, k -> new Postings()).add(ordinal);
+        }
+        if (centre.address() != null) {
+            for (final String trigram : FuzzyText.trigrams(centre.address().detailedAddress())) {
+                addresses.computeIfAbsent(trigram, k -> new Postings()).add(ordinal);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> filterNames() {
+        return Set.of("q");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supports(final TrainingCentreSearchCriteria criteria) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BitSet filter(final TrainingCentreSearchCriteria criteria, final BitSet candidates) {
+        if (!criteria.hasText()) {
+            return null;
+        }
+        final var result = new BitSet();
+        for (final long entry : score(criteria.text(), candidates)) {
+            result.set((int) entry);
+        }
+        return result;
+    }
+
+    /**
+     * Scores the centres matching a text query.
+     *
+     * @param text       the normalized text query.
+     * @param candidates the only ordinals to consider, or null for all.
+     * @return one entry per matching centre, holding its score in the high 32
+     *         bits and its ordinal in the low 32, in no particular order.
+     */
+    long[] score(final String text, final BitSet candidates) {
+        final List<Trigram> query = new ArrayList<>();
+        for (final String trigram : FuzzyText.trigrams(text)) {
+            query.add(new Trigram(names.get(trigram), addresses.get(trigram)));
+        }
+        if (query.isEmpty()) {
+            return new long[0];
+        }
+        final var required = FuzzyText.requiredHits(query.size());
+        query.sort(Comparator.comparingInt(Trigram::frequency));
+
+        final var possible = new BitSet();
+        for (final Trigram trigram : query.subList(0, query.size() - required + 1)) {
+            trigram.orInto(possible);
+        }
+        if (candidates != null) {
+            possible.and(candidates);
+        }
+
+        final var scored = new long[possible.cardinality()];
+        int count = 0;
+        for (int ordinal = possible.nextSetBit(0); ordinal >= 0; ordinal = possible.nextSetBit(ordinal + 1)) {
+            int hits = 0;
+            int score = 0;
+            for (final Trigram trigram : query) {
+                final var inName = trigram.name != null && trigram.name.contains(ordinal);
+                final var inAddress = trigram.address != null && trigram.address.contains(ordinal);
+                if (inName || inAddress) {
+                    hits++;
+                    score += (inName ? FuzzyText.NAME_WEIGHT : 0) + (inAddress ? FuzzyText.ADDRESS_WEIGHT : 0);
+                }
+            }
+            if (hits >= required) {
+                scored[count++] = (long) score << 32 | ordinal;
+            }
+        }
+        return Arrays.copyOf(scored, count);
+    }
+
+    /** Postings of one query trigram in both fields; either may be null. */
+    private record Trigram(Postings name, Postings address) {
+
+        private int frequency() {
+            return (name == null ? 0 : name.size()) + (address == null ? 0 : address.size());
+        }
+
+        private void orInto(final BitSet target) {
+            if (name != null) {
+                name.orInto(target);
+            }
+            if (address != null) {
+                address.orInto(target);
+            }
+        }
+    }
+}
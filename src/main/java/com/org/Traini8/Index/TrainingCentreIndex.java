@@ -0,0 +1,645 @@
+package com.org.Traini8.Index;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.org.Traini8.Metrics.TrainingCentreQueryMetrics;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Repository.TrainingCentreCursorReader;
+import com.org.Traini8.Service.TrainingCentresRegisteredEvent;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-memory search index over all training centres. It answers the filter
+ * phase of a search (which center codes are on the requested page) without
+ * touching the database, for every filter combination its parts support.
+ *
+ * The index is loaded once at startup by streaming the catalog through
+ * {@link TrainingCentreCursorReader}, and is then kept up to date from
+ * {@link TrainingCentresRegisteredEvent}s after each registration commits.
+ * Centres stored by other instances, or by anything else that bypasses this
+ * instance's registration services, are added by {@link #catchUp}, which the
+ * catalog sync calls when the stored catalog has changed.
+ * With {@code traini8.index.snapshot.path} set, the catalog is also saved to
+ * a local {@link IndexSnapshot} after loading and on shutdown; the next start
+ * restores it from there and only reads the centres created since.
+ * Until loading has finished, and for criteria it cannot evaluate exactly, it
+ * declines and the caller queries the database instead.
+ *
+ * Text queries are the one filter that also orders results: their pages are
+ * ranked by relevance and served only from memory, since the database has no
+ * equivalent of the trigram matching.
+ *
+ * Unless {@code traini8.index.catalog.enabled} is false, the index also keeps
+ * every field of every centre in a dictionary-encoded {@link CentreColumns}
+ * store, so the centres of a page can be returned without loading them from
+ * the database.
+ *
+ * Reads share a read lock; loading and registrations take the write lock for
+ * one chunk of centres at a time.
+ */
+@Component
+public class TrainingCentreIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreIndex.class);
+
+    private static final int LOAD_CHUNK = 10_000;
+
+    private static final Consumer<TrainingCentreView> IGNORE_ADDED = centre -> {
+    };
+
+    @Autowired
+    private TrainingCentreCursorReader cursorReader;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCentreQueryMetrics queryMetrics;
+
+    @Value("${traini8.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${traini8.index.catalog.enabled:true}")
+    private boolean catalogEnabled;
+
+    @Value("${traini8.index.snapshot.path:}")
+    private String snapshotPath;
+
+    @Value("${traini8.index.snapshot.replay-overlap:5m}")
+    private Duration replayOverlap;
+
+    @Value("${traini8.index.catch-up-overlap:1m}")
+    private Duration catchUpOverlap;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<String> indexedFilters = new HashSet<>();
+    private CentreOrdinals ordinals;
+    private CentreColumns columns;
+    private TextIndex textIndex;
+    private List<CentreIndexPart> parts;
+    private long highWaterMark;
+    private volatile boolean ready;
+    private volatile boolean broken;
+
+    /**
+     * Creates an empty index.
+     */
+    public TrainingCentreIndex() {
+        clear();
+        parts.forEach(part -> indexedFilters.addAll(part.filterNames()));
+    }
+
+    /**
+     * Loads every stored centre into the index. Runs once the application is
+     * ready, so startup is not delayed; searches use the database meanwhile.
+     * Centres come from the snapshot when a valid one exists, and from a full
+     * scan otherwise.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            logger.info("Training centre index is disabled");
+            return;
+        }
+        final var started = System.nanoTime();
+        final var replayFrom = restoreSnapshot();
+        if (replayFrom.isPresent()) {
+            addInChunks(consumer -> cursorReader.forEachCreatedSince(replayFrom.getAsLong(), consumer),
+                    IGNORE_ADDED);
+        } else {
+            addInChunks(cursorReader::forEach, IGNORE_ADDED);
+        }
+        ready = !broken;
+        logger.info("Loaded {} training centres into the index in {} ms", size(),
+                (System.nanoTime() - started) / 1_000_000);
+        saveSnapshot();
+        if (catalogEnabled) {
+            final var dictionarySizes = columns.dictionarySizes();
+            logger.info("Catalog holds {} distinct states, {} cities and {} courses", dictionarySizes[0],
+                    dictionarySizes[1], dictionarySizes[2]);
+        }
+    }
+
+    /**
+     * Saves the snapshot on shutdown, so the next start replays only the
+     * centres registered after this point.
+     */
+    @PreDestroy
+    public void saveSnapshot() {
+        if (!ready || !snapshotEnabled()) {
+            return;
+        }
+        final var path = Path.of(snapshotPath);
+        final var started = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            IndexSnapshot.write(path, highWaterMark, ordinals.size(), position -> {
+                final var ordinal = ordinals.ordinalAt(position);
+                return columns.view(ordinal, ordinals.codeOf(ordinal));
+            });
+            logger.info("Saved {} training centres to index snapshot {} in {} ms", ordinals.size(), path,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (final IOException | RuntimeException e) {
+            logger.warn("Cannot save index snapshot {}", path, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds newly registered centres once their transaction has committed. Runs
+     * before the search cache is invalidated, so a search recomputed after the
+     * eviction already sees the new centres.
+     *
+     * @param event the event describing the committed training centers.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingCentresRegistered(final TrainingCentresRegisteredEvent event) {
+        if (enabled) {
+            addAll(event.getTrainingCentres().stream().map(TrainingCentreView::of).toList(), IGNORE_ADDED);
+        }
+    }
+
+    /**
+     * Adds the stored centres that the index has not seen, such as those
+     * registered through another instance.
+     *
+     * Creation times are taken before a centre commits, and by the clock of the
+     * instance that registered it, so a centre may commit with a creation time
+     * below the high-water mark. The centres created since the high-water mark
+     * minus {@code traini8.index.catch-up-overlap} are therefore read again;
+     * centres read twice are skipped by code. If the index still holds fewer
+     * centres than the database, one arrived later than the overlap allows for,
+     * and the whole catalog is read again.
+     *
+     * @param storedCount the number of stored centres, counted before the call.
+     * @return the centres that were added, or empty if the index is not loaded.
+     */
+    public Optional<List<TrainingCentreView>> catchUp(final long storedCount) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        final long replayFrom;
+        lock.readLock().lock();
+        try {
+            replayFrom = highWaterMark == Long.MIN_VALUE ? Long.MIN_VALUE
+                    : highWaterMark - catchUpOverlap.toMillis();
+        } finally {
+            lock.readLock().unlock();
+        }
+        final List<TrainingCentreView> added = new ArrayList<>();
+        addInChunks(consumer -> cursorReader.forEachCreatedSince(replayFrom, consumer), added::add);
+        if (size() < storedCount) {
+            logger.warn("Index holds {} training centres but {} are stored; reading the whole catalog again",
+                    size(), storedCount);
+            addInChunks(cursorReader::forEach, added::add);
+        }
+        if (!added.isEmpty()) {
+            logger.info("Caught up with {} training centres stored by other instances", added.size());
+        }
+        return ready ? Optional.of(added) : Optional.empty();
+    }
+
+    /**
+     * Resolves the center codes of one search page from memory.
+     *
+     * @param criteria        the normalized search criteria.
+     * @param afterCenterCode only codes sorting after this one are returned, if
+     *                        not null.
+     * @param limit           the maximum number of codes to return.
+     * @return the matching codes in center code order, or empty if the index is
+     *         not loaded or cannot evaluate these criteria exactly.
+     */
+    public Optional<List<String>> findCenterCodes(final TrainingCentreSearchCriteria criteria,
+            final String afterCenterCode, final int limit) {
+        if (!canAnswer(criteria)) {
+            return Optional.empty();
+        }
+        return Optional.of(queryMetrics.time("indexFindCenterCodes", criteria.appliedFilters(), () -> {
+            lock.readLock().lock();
+            try {
+                return page(candidates(criteria, null), afterCenterCode, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Resolves one page of a text search from memory, ranked by relevance and
+     * then by center code. Pages continue after the (score, code) position of
+     * the last result of the previous page.
+     *
+     * @param criteria        the normalized search criteria, with a text query.
+     * @param afterScore      the score of the last result of the previous page,
+     *                        or null for the first page.
+     * @param afterCenterCode the center code of that result, or null.
+     * @param limit           the maximum number of codes to return.
+     * @return the matching codes with their scores in rank order, or empty if
+     *         the index is not loaded or cannot evaluate these criteria exactly.
+     */
+    public Optional<List<ScoredCenterCode>> findRankedCenterCodes(final TrainingCentreSearchCriteria criteria,
+            final Integer afterScore, final String afterCenterCode, final int limit) {
+        if (!criteria.hasText() || !canAnswer(criteria)) {
+            return Optional.empty();
+        }
+        return Optional.of(queryMetrics.time("indexFindRankedCenterCodes", criteria.appliedFilters(), () -> {
+            lock.readLock().lock();
+            try {
+                final var entries = textIndex.score(criteria.text(), candidates(criteria, textIndex));
+                return rankedPage(entries, afterScore, afterCenterCode, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Counts the centres matching the criteria from memory.
+     *
+     * @param criteria the normalized search criteria.
+     * @return the number of matching centres, or empty if the index is not
+     *         loaded or cannot evaluate these criteria exactly.
+     */
+    public Optional<Long> count(final TrainingCentreSearchCriteria criteria) {
+        if (!canAnswer(criteria)) {
+            return Optional.empty();
+        }
+        return Optional.of(queryMetrics.time("indexCount", criteria.appliedFilters(), () -> {
+            lock.readLock().lock();
+            try {
+                final var candidates = candidates(criteria, null);
+                return (long) (candidates == null ? ordinals.size() : candidates.cardinality());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Computes the facet counts of the centres matching the criteria from
+     * memory.
+     *
+     * @param criteria the normalized search criteria.
+     * @return the facets, or empty if the index is not loaded or cannot
+     *         evaluate these criteria exactly.
+     */
+    public Optional<TrainingCentreFacets> facets(final TrainingCentreSearchCriteria criteria) {
+        if (!canAnswer(criteria)) {
+            return Optional.empty();
+        }
+        return Optional.of(queryMetrics.time("indexFacets", criteria.appliedFilters(), () -> {
+            lock.readLock().lock();
+            try {
+                final var candidates = candidates(criteria, null);
+                final Map<String, Map<String, Long>> counts = new HashMap<>();
+                parts.forEach(part -> part.countFacets(candidates, counts));
+                return new TrainingCentreFacets(candidates == null ? ordinals.size() : candidates.cardinality(),
+                        counts.get(TrainingCentreFacets.STATES), counts.get(TrainingCentreFacets.CITIES),
+                        counts.get(TrainingCentreFacets.COURSES), counts.get(TrainingCentreFacets.CAPACITY));
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Returns the given centres from the in-memory catalog.
+     *
+     * @param centerCodes the center codes to look up.
+     * @return the centres in the order of the codes, or empty if the catalog is
+     *         disabled, not loaded, or misses one of the codes.
+     */
+    public Optional<List<TrainingCentreView>> findViews(final List<String> centerCodes) {
+        if (!ready || !catalogEnabled) {
+            return Optional.empty();
+        }
+        return queryMetrics.time("indexFindViews", TrainingCentreQueryMetrics.NOT_FILTERED, () -> {
+            lock.readLock().lock();
+            try {
+                final List<TrainingCentreView> views = new ArrayList<>(centerCodes.size());
+                for (final String centerCode : centerCodes) {
+                    final var ordinal = ordinals.ordinalOf(centerCode);
+                    if (ordinal < 0) {
+                        return Optional.<List<TrainingCentreView>>empty();
+                    }
+                    views.add(columns.view(ordinal, centerCode));
+                }
+                return Optional.of(views);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns every centre from the in-memory catalog.
+     *
+     * @return all centres in center code order, or empty if the catalog is
+     *         disabled or not loaded.
+     */
+    public Optional<List<TrainingCentreView>> findAllViews() {
+        if (!ready || !catalogEnabled) {
+            return Optional.empty();
+        }
+        return Optional.of(queryMetrics.time("indexFindAllViews", TrainingCentreQueryMetrics.NOT_FILTERED, () -> {
+            lock.readLock().lock();
+            try {
+                final List<TrainingCentreView> views = new ArrayList<>(ordinals.size());
+                for (int position = 0; position < ordinals.size(); position++) {
+                    final var ordinal = ordinals.ordinalAt(position);
+                    views.add(columns.view(ordinal, ordinals.codeOf(ordinal)));
+                }
+                return views;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }));
+    }
+
+    /**
+     * Tells whether the index has finished loading and is answering searches.
+     *
+     * @return true if searches are served from memory.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the number of indexed centres.
+     *
+     * @return the number of centres.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tells whether every filter present in the criteria is evaluated exactly
+     * by the index, regardless of whether it has finished loading.
+     *
+     * @param criteria the normalized search criteria.
+     * @return true if the index can answer these criteria once ready.
+     */
+    public boolean supports(final TrainingCentreSearchCriteria criteria) {
+        return indexedFilters.containsAll(criteria.presentFilters())
+                && parts.stream().allMatch(part -> part.supports(criteria));
+    }
+
+    /**
+     * Tells whether the index is loaded and supports the criteria.
+     */
+    private boolean canAnswer(final TrainingCentreSearchCriteria criteria) {
+        return ready && supports(criteria);
+    }
+
+    /**
+     * Restores the centres of the snapshot, if there is a valid one that agrees
+     * with the database.
+     *
+     * Creation times are taken before a centre commits, so a centre committed
+     * after the snapshot was written may be slightly older than its high-water
+     * mark. The replay therefore starts {@code traini8.index.snapshot.replay-overlap}
+     * earlier; centres read twice are skipped by code. Every centre created
+     * before that point must be in the snapshot, which is checked with one
+     * COUNT query.
+     *
+     * @return the creation time from which to replay the database, or empty if
+     *         nothing was restored.
+     */
+    private OptionalLong restoreSnapshot() {
+        if (!snapshotEnabled()) {
+            return OptionalLong.empty();
+        }
+        final var path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            logger.info("No index snapshot at {}; loading the index from the database", path);
+            return OptionalLong.empty();
+        }
+        try {
+            final var snapshot = IndexSnapshot.open(path);
+            if (snapshot.size() == 0) {
+                return OptionalLong.empty();
+            }
+            final var replayFrom = snapshot.highWaterMark() - replayOverlap.toMillis();
+            final var expected = trainingCenterRepository.countCreatedBefore(replayFrom);
+            final var restored = snapshot.countCreatedBefore(replayFrom);
+            if (restored != expected) {
+                logger.warn("Index snapshot {} has {} centres created before {} but the database has {}; "
+                        + "loading the index from the database", path, restored, Instant.ofEpochMilli(replayFrom),
+                        expected);
+                return OptionalLong.empty();
+            }
+            addInChunks(snapshot::forEach, IGNORE_ADDED);
+            logger.info("Restored {} training centres from index snapshot {}; replaying centres created since {}",
+                    snapshot.size(), path, Instant.ofEpochMilli(replayFrom));
+            return OptionalLong.of(replayFrom);
+        } catch (final IOException | RuntimeException e) {
+            logger.warn("Cannot restore index snapshot {}; loading the index from the database", path, e);
+            clear();
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean snapshotEnabled() {
+        return catalogEnabled && !snapshotPath.isBlank();
+    }
+
+    /**
+     * Feeds the centres of a source to {@link #addAll} in chunks, so the write
+     * lock is released regularly while loading.
+     */
+    private void addInChunks(final Consumer<Consumer<TrainingCentreView>> source,
+            final Consumer<TrainingCentreView> added) {
+        final List<TrainingCentreView> chunk = new ArrayList<>(LOAD_CHUNK);
+        source.accept(centre -> {
+            chunk.add(centre);
+            if (chunk.size() == LOAD_CHUNK) {
+                addAll(chunk, added);
+                chunk.clear();
+            }
+        });
+        addAll(chunk, added);
+    }
+
+    /**
+     * Empties the index, dropping a partly restored snapshot.
+     */
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            ordinals = new CentreOrdinals();
+            columns = new CentreColumns();
+            textIndex = new TextIndex();
+            parts = List.of(new CourseIndex(), new LocationIndex(), new CapacityIndex(), textIndex);
+            highWaterMark = Long.MIN_VALUE;
+            broken = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds centres that are not indexed yet, passing each one that was added to
+     * {@code added}. A centre whose code cannot be packed disables the index
+     * for good, since it could never be found.
+     */
+    private void addAll(final Collection<TrainingCentreView> centres, final Consumer<TrainingCentreView> added) {
+        lock.writeLock().lock();
+        try {
+            for (final TrainingCentreView centre : centres) {
+                final var packed = CentreCodes.pack(centre.centerCode());
+                if (packed == CentreCodes.INVALID) {
+                    if (!broken) {
+                        logger.warn("Center code {} cannot be indexed; searches will use the database",
+                                centre.centerCode());
+                    }
+                    broken = true;
+                    ready = false;
+                    continue;
+                }
+                final var ordinal = ordinals.add(packed);
+                if (ordinal >= 0) {
+                    for (final CentreIndexPart part : parts) {
+                        part.add(ordinal, centre);
+                    }
+                    if (catalogEnabled) {
+                        columns.add(ordinal, centre);
+                    }
+                    if (centre.createdOnEpochMilli() != null) {
+                        highWaterMark = Math.max(highWaterMark, centre.createdOnEpochMilli());
+                    }
+                    added.accept(centre);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects the answers of all parts. The selective hash-keyed parts run
+     * first, so the capacity range can be checked against their result when
+     * that is smaller than the range.
+     *
+     * @param skipped a part to leave out, or null.
+     * @return the matching ordinals, or null if no filter is present.
+     */
+    private BitSet candidates(final TrainingCentreSearchCriteria criteria, final CentreIndexPart skipped) {
+        BitSet result = null;
+        for (final CentreIndexPart part : parts) {
+            if (part == skipped) {
+                continue;
+            }
+            final var matching = part.filter(criteria, result);
+            if (matching == null) {
+                continue;
+            }
+            if (result == null) {
+                result = matching;
+            } else {
+                result.and(matching);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Collects up to {@code limit} candidate codes after {@code afterCenterCode}
+     * in code order. Dense candidate sets are found by walking centres in code
+     * order; sparse ones are cheaper to sort directly.
+     */
+    private List<String> page(final BitSet candidates, final String afterCenterCode, final int limit) {
+        final int start = afterCenterCode == null ? 0
+                : ordinals.lowerBound(CentreCodes.lowerBoundAfter(afterCenterCode));
+        final List<String> codes = new ArrayList<>(Math.min(limit, 1024));
+        if (candidates != null && candidates.cardinality() < (ordinals.size() - start) / 32) {
+            final var lowerBound = start < ordinals.size() ? ordinals.packedCodeOf(ordinals.ordinalAt(start))
+                    : Long.MAX_VALUE;
+            candidates.stream().mapToLong(ordinals::packedCodeOf).filter(code -> code >= lowerBound).sorted()
+                    .limit(limit).forEach(code -> codes.add(CentreCodes.unpack(code)));
+            return codes;
+        }
+        for (int position = start; position < ordinals.size() && codes.size() < limit; position++) {
+            final var ordinal = ordinals.ordinalAt(position);
+            if (candidates == null || candidates.get(ordinal)) {
+                codes.add(ordinals.codeOf(ordinal));
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Collects up to {@code limit} scored entries after the given position, in
+     * descending score order and ascending code order within a score. Only the
+     * score groups that reach the page are sorted by code.
+     */
+    private List<ScoredCenterCode> rankedPage(final long[] entries, final Integer afterScore,
+            final String afterCenterCode, final int limit) {
+        Arrays.sort(entries);
+        final var lowerBound = afterCenterCode == null ? Long.MIN_VALUE : CentreCodes.lowerBoundAfter(afterCenterCode);
+        final List<ScoredCenterCode> codes = new ArrayList<>(Math.min(limit, 1024));
+        int end = entries.length;
+        while (end > 0 && codes.size() < limit) {
+            final var score = (int) (entries[end - 1] >>> 32);
+            int start = end - 1;
+            while (start > 0 && (int) (entries[start - 1] >>> 32) == score) {
+                start--;
+            }
+            if (afterScore == null || score <= afterScore) {
+                final var group = new long[end - start];
+                for (int i = start; i < end; i++) {
+                    group[i - start] = ordinals.packedCodeOf((int) entries[i]);
+                }
+                Arrays.sort(group);
+                for (int i = 0; i < group.length && codes.size() < limit; i++) {
+                    if (afterScore == null || score < afterScore || group[i] >= lowerBound) {
+                        codes.add(new ScoredCenterCode(CentreCodes.unpack(group[i]), score));
+                    }
+                }
+            }
+            end = start;
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.org.Traini8.Metrics;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records query-level metrics for the training centre repositories.
+ *
+ * Spring Data already times every {@code TrainingCenterRepository} method as
+ * {@code spring.data.repository.invocations}, but without knowing the
+ * arguments. This class adds a {@value #QUERY_TIMER} timer that is tagged with
+ * the filters a search applied, and covers the plain JDBC repositories that
+ * Spring Data and the Hibernate statistics do not see. Statements those JDBC
+ * repositories execute are counted in {@value #STATEMENT_COUNTER}.
+ */
+@Component
+public class TrainingCentreQueryMetrics {
+
+    /** Timer for individual repository queries. */
+    public static final String QUERY_TIMER = "traini8.repository.queries";
+
+    /** Counter of statements executed through plain JDBC. */
+    public static final String STATEMENT_COUNTER = "traini8.jdbc.statements";
+
+    /** Tag value used when a query takes no search filters. */
+    public static final String NOT_FILTERED = "n/a";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Runs a repository query and records its duration, tagged with the query
+     * name, the applied filters and whether it succeeded.
+     *
+     * @param <T>     the query result type.
+     * @param query   a stable name of the query, such as the repository method.
+     * @param filters the applied filters as returned by
+     *                {@code TrainingCentreSearchCriteria.appliedFilters()}, or
+     *                {@link #NOT_FILTERED}.
+     * @param call    the query to run.
+     * @return the query result.
+     */
+    public <T> T time(final String query, final String filters, final Supplier<T> call) {
+        final var sample = Timer.start(meterRegistry);
+        var outcome = "error";
+        try {
+            final var result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(QUERY_TIMER)
+                    .description("Duration of training centre repository queries")
+                    .tag("query", query)
+                    .tag("filters", filters)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs a repository operation that returns nothing and records its duration.
+     *
+     * @param query   a stable name of the operation.
+     * @param filters the applied filters, or {@link #NOT_FILTERED}.
+     * @param call    the operation to run.
+     */
+    public void record(final String query, final String filters, final Runnable call) {
+        time(query, filters, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Counts statements executed through plain JDBC.
+     *
+     * @param query      the name of the operation that executed them.
+     * @param statements the number of statements executed.
+     */
+    public void countStatements(final String query, final int statements) {
+        meterRegistry.counter(STATEMENT_COUNTER, "query", query).increment(statements);
+    }
+}
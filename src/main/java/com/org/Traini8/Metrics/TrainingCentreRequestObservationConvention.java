@@ -0,0 +1,46 @@
+package com.org.Traini8.Metrics;
+
+import java.util.StringJoiner;
+
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+/**
+ * Adds a {@code filters} tag to the {@code http.server.requests} timer, so
+ * search latency can be broken down by which filters a request used. Only
+ * filter names are recorded, never their values, which keeps the number of
+ * distinct tag values bounded.
+ */
+@Component
+public class TrainingCentreRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeyValues getLowCardinalityKeyValues(final ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of("filters", filters(context)));
+    }
+
+    /**
+     * Lists the search filter parameters present on the request, in the order
+     * of {@link TrainingCentreSearchCriteria#FILTER_NAMES}.
+     */
+    private static String filters(final ServerRequestObservationContext context) {
+        final var request = context.getCarrier();
+        final var joiner = new StringJoiner(",");
+        for (final String name : TrainingCentreSearchCriteria.FILTER_NAMES) {
+            final var value = request.getParameter(name);
+            if (value != null && !value.isBlank()) {
+                joiner.add(name);
+            }
+        }
+        return joiner.length() == 0 ? TrainingCentreSearchCriteria.NO_FILTERS : joiner.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.org.Traini8.Repository;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Splits database traffic between the primary and a read replica. Active only
+ * when {@code traini8.datasource.replica.jdbc-url} is set; otherwise Spring
+ * Boot's single data source is used as before.
+ *
+ * The application data source is a {@link LazyConnectionDataSourceProxy}
+ * that fetches a physical connection on the first statement, after the
+ * transaction manager has marked the connection read-only or not. Read-only
+ * transactions, such as those of the retrieve service, get their connection
+ * from the {@link ReplicaDataSource}; everything else, including every
+ * registration and all work outside a transaction, uses the primary.
+ *
+ * The primary pool is configured with the usual {@code spring.datasource.*}
+ * properties, the replica pool with the Hikari properties under
+ * {@code traini8.datasource.replica}. The replica pool does not fail startup
+ * when the replica is down; reads then fall back to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "traini8.datasource.replica", name = "jdbc-url")
+public class ReadReplicaConfiguration {
+
+    /**
+     * Creates the primary connection pool.
+     *
+     * @param properties the {@code spring.datasource} properties.
+     * @return the primary pool.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Holds the replica pool settings.
+     *
+     * @return the replica pool configuration, bound from
+     *         {@code traini8.datasource.replica}.
+     */
+    @Bean
+    @ConfigurationProperties("traini8.datasource.replica")
+    public HikariConfig replicaPoolConfig() {
+        final var config = new HikariConfig();
+        config.setPoolName("traini8-replica");
+        config.setInitializationFailTimeout(-1); // Start even when the replica is down
+        return config;
+    }
+
+    /**
+     * Creates the connection source of read-only transactions.
+     *
+     * @param replicaPoolConfig the replica pool settings.
+     * @param primaryDataSource the primary pool, used as fallback.
+     * @param readAfterWrite    how long reads stay on the primary after a
+     *                          registration commits.
+     * @param retryInterval     how long the replica is skipped after a failed
+     *                          connection attempt.
+     * @param meterRegistry     registry for the routing counters.
+     * @return the replica connection source.
+     */
+    @Bean
+    public ReplicaDataSource replicaDataSource(@Qualifier("replicaPoolConfig") final HikariConfig replicaPoolConfig,
+            final HikariDataSource primaryDataSource,
+            @Value("${traini8.datasource.routing.read-after-write:2s}") final Duration readAfterWrite,
+            @Value("${traini8.datasource.routing.retry-interval:30s}") final Duration retryInterval,
+            final MeterRegistry meterRegistry) {
+        return new ReplicaDataSource(new HikariDataSource(replicaPoolConfig), primaryDataSource, readAfterWrite,
+                retryInterval, meterRegistry);
+    }
+
+    /**
+     * Creates the application data source, which routes each transaction to
+     * the primary or the replica.
+     *
+     * @param primaryDataSource the primary pool.
+     * @param replicaDataSource the connection source of read-only transactions.
+     * @return the routing data source.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(final HikariDataSource primaryDataSource,
+            final ReplicaDataSource replicaDataSource) {
+        final var dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
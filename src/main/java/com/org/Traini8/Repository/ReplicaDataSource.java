@@ -0,0 +1,137 @@
+package com.org.Traini8.Repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.org.Traini8.Service.TrainingCentresRegisteredEvent;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Connection source for read-only transactions: the read replica pool, with
+ * the primary as fallback.
+ *
+ * A read goes to the primary instead of the replica in two cases:
+ * <ul>
+ * <li>a registration committed less than the read-after-write window ago. The
+ * replica may not have applied it yet, and a client that has just registered
+ * a centre expects to find it;</li>
+ * <li>the replica refused a connection less than the retry interval ago. The
+ * replica is not asked again until the interval has passed, so an outage costs
+ * one failed attempt per interval rather than one per request.</li>
+ * </ul>
+ *
+ * The window only covers registrations made by this instance. Writes made
+ * through other instances become visible once the replica applies them.
+ */
+public class ReplicaDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final long readAfterWriteMillis;
+    private final long retryIntervalMillis;
+    private final Counter replicaReads;
+    private final Counter recentWriteReads;
+    private final Counter fallbackReads;
+    private volatile long lastWriteAt;
+    private volatile long replicaDownUntil = Long.MIN_VALUE;
+
+    /**
+     * Creates the replica connection source.
+     *
+     * @param replica         the replica connection pool; closed with this
+     *                        data source.
+     * @param primary         the primary connection pool.
+     * @param readAfterWrite  how long reads stay on the primary after a
+     *                        registration commits.
+     * @param retryInterval   how long the replica is skipped after it refused a
+     *                        connection.
+     * @param meterRegistry   registry for the routing counters.
+     */
+    public ReplicaDataSource(final DataSource replica, final DataSource primary, final Duration readAfterWrite,
+            final Duration retryInterval, final MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.readAfterWriteMillis = readAfterWrite.toMillis();
+        this.retryIntervalMillis = retryInterval.toMillis();
+        this.replicaReads = routingCounter(meterRegistry, "replica", "replica");
+        this.recentWriteReads = routingCounter(meterRegistry, "primary", "recent-write");
+        this.fallbackReads = routingCounter(meterRegistry, "primary", "replica-unavailable");
+    }
+
+    /**
+     * Returns a connection for a read-only transaction, from the replica
+     * unless the primary must be used.
+     *
+     * @return a connection to the replica or the primary.
+     * @throws SQLException if the primary refuses a connection too.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        final var now = System.currentTimeMillis();
+        if (now - lastWriteAt < readAfterWriteMillis) {
+            recentWriteReads.increment();
+            return primary.getConnection();
+        }
+        if (now < replicaDownUntil) {
+            fallbackReads.increment();
+            return primary.getConnection();
+        }
+        try {
+            final var connection = super.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (final SQLException e) {
+            logger.warn("Read replica refused a connection; reading from the primary for the next {} ms",
+                    retryIntervalMillis, e);
+            replicaDownUntil = now + retryIntervalMillis;
+            fallbackReads.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Keeps reads on the primary for a while after new centres have committed.
+     * Runs before the other listeners of the event, so a client that sees the
+     * new centres in the index or a new entity tag is not sent to a stale
+     * replica for the details.
+     *
+     * @param event the event describing the committed training centers.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingCentresRegistered(final TrainingCentresRegisteredEvent event) {
+        lastWriteAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Closes the replica pool.
+     */
+    @Override
+    public void close() {
+        if (getTargetDataSource() instanceof final HikariDataSource pool) {
+            pool.close();
+        }
+    }
+
+    private static Counter routingCounter(final MeterRegistry meterRegistry, final String target,
+            final String reason) {
+        return Counter.builder("traini8.datasource.reads")
+                .description("Connections handed out to read-only transactions, by target database and reason")
+                .tag("target", target).tag("reason", reason).register(meterRegistry);
+    }
+}
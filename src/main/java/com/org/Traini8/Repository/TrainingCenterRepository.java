@@ -1,66 +1,102 @@
 package com.org.Traini8.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreCatalogState;
 
 /**
  * This interface serves as a repository for Training Centre entities and
  * extends JpaRepository to leverage Spring Data JPA's repository support, which
  * provides default implementations for CRUD operations on the TrainingCentre
  * entity.
+ *
+ * Read methods that return entities load {@code coursesOffered} through an
+ * entity graph, so serializing a result never triggers one extra SELECT per
+ * centre. Searches with optional filters and the read-only view projections
+ * used by the web layer live in {@link TrainingCenterRepositoryCustom}.
  */
 @Repository
-public interface TrainingCenterRepository extends JpaRepository<TrainingCentre, String> {
+public interface TrainingCenterRepository
+        extends JpaRepository<TrainingCentre, String>, TrainingCenterRepositoryCustom {
 
     /**
-     * Custom query method to find Training Centres based on multiple optional
-     * search criteria. The method uses a JPQL query with dynamic filters that are
-     * applied only if the parameters are not null. The query performs a LEFT JOIN
-     * on the courses offered by each centre to optionally filter by courses.
+     * Returns all Training Centres together with their courses, loaded in a
+     * single joined SELECT.
      *
-     * @param centerCode   the unique code of the training center; used in a LIKE
-     *                     search if not null.
-     * @param centerName   the name of the training center; used in a LIKE search if
-     *                     not null.
-     * @param minCapacity  the minimum student capacity filter; only centers with at
-     *                     least this capacity are returned.
-     * @param maxCapacity  the maximum student capacity filter; only centers with
-     *                     capacity up to this are returned.
-     * @param contactEmail the email used for contacting the training center; used
-     *                     in a LIKE search if not null.
-     * @param contactPhone the phone number for contacting the training center; used
-     *                     in a LIKE search if not null.
-     * @param city         the city where the training center is located; used in a
-     *                     LIKE search if not null.
-     * @param state        the state where the training center is located; used in a
-     *                     LIKE search if not null.
-     * @param pincode      the pin code of the training center's location; matches
-     *                     exactly if not null.
-     * @param courses      a list of course names; returns centers offering any of
-     *                     the courses in this list if not null.
-     * @return a list of Training Centres that match the given criteria.
+     * @return all Training Centres with {@code coursesOffered} initialized.
      */
+    @Override
+    @EntityGraph(attributePaths = "coursesOffered")
+    List<TrainingCentre> findAll();
+
+    /**
+     * Returns which of the given center codes are already registered.
+     *
+     * @param centerCodes the center codes to check.
+     * @return the subset of {@code centerCodes} that exist in the database.
+     */
+    @Query("SELECT t.centerCode FROM TrainingCentre t WHERE t.centerCode IN :centerCodes")
+    List<String> findExistingCenterCodes(Collection<String> centerCodes);
+
+    /**
+     * Returns the creation time of the most recently created centre.
+     *
+     * @return the latest creation time in epoch milliseconds, or null if no
+     *         centre is stored.
+     */
+    @Query("SELECT MAX(t.createdOn) FROM TrainingCentre t")
+    Long findLatestCreatedOn();
+
+    /**
+     * Reads how many centres are stored and when the latest was created. The
+     * transaction is not read-only, so the primary answers even when a read
+     * replica is configured.
+     *
+     * @return the current catalog state.
+     */
+    @Transactional
+    @Query("SELECT new com.org.Traini8.pojo.TrainingCentreCatalogState(COUNT(t), MAX(t.createdOn)) "
+            + "FROM TrainingCentre t")
+    TrainingCentreCatalogState findCatalogState();
+
+    /**
+     * Counts the centres created before a point in time.
+     *
+     * @param createdOn the exclusive upper bound, in epoch milliseconds.
+     * @return the number of centres with an earlier creation time.
+     */
+    @Query("SELECT COUNT(t) FROM TrainingCentre t WHERE t.createdOn < :createdOn")
+    long countCreatedBefore(Long createdOn);
+
+    /**
+     * Fills the normalized search-key columns of rows written before those
+     * columns existed. Keys are built as
+     * {@link com.org.Traini8.pojo.SearchKeys#normalize} builds them: trimmed,
+     * lowercased, and null for a blank value. Only rows missing the key of a
+     * non-blank value are selected, so running this repeatedly is cheap.
+     *
+     * @return the number of rows updated.
+     */
+    @Modifying
     @Query("""
-            SELECT t FROM TrainingCentre t
-            LEFT JOIN t.coursesOffered c
-            WHERE (:centerCode IS NULL OR LOWER(t.centerCode) LIKE LOWER(CONCAT('%', :centerCode, '%')))
-            AND (:centerName IS NULL OR LOWER(t.centerName) LIKE LOWER(CONCAT('%', :centerName, '%')))
-            AND (:minCapacity IS NULL OR t.studentCapacity >= :minCapacity)
-            AND (:maxCapacity IS NULL OR t.studentCapacity <= :maxCapacity)
-            AND (:contactEmail IS NULL OR LOWER(t.contactEmail) LIKE LOWER(CONCAT('%', :contactEmail, '%')))
-            AND (:contactPhone IS NULL OR LOWER(t.contactPhone) LIKE LOWER(CONCAT('%', :contactPhone, '%')))
-            AND (:city IS NULL OR LOWER(t.address.city) LIKE LOWER(CONCAT('%', :city, '%')))
-            AND (:state IS NULL OR LOWER(t.address.state) LIKE LOWER(CONCAT('%', :state, '%')))
-            AND (:pincode IS NULL OR t.address.pincode = :pincode)
-            AND (:courses IS NULL OR c IN :courses)
-            GROUP BY t
+            UPDATE TrainingCentre t
+            SET t.centerNameKey = NULLIF(LOWER(TRIM(t.centerName)), ''),
+                t.contactEmailKey = NULLIF(LOWER(TRIM(t.contactEmail)), ''),
+                t.address.cityKey = NULLIF(LOWER(TRIM(t.address.city)), ''),
+                t.address.stateKey = NULLIF(LOWER(TRIM(t.address.state)), '')
+            WHERE t.centerNameKey IS NULL AND NULLIF(TRIM(t.centerName), '') IS NOT NULL
+                OR t.contactEmailKey IS NULL AND NULLIF(TRIM(t.contactEmail), '') IS NOT NULL
+                OR t.address.cityKey IS NULL AND NULLIF(TRIM(t.address.city), '') IS NOT NULL
+                OR t.address.stateKey IS NULL AND NULLIF(TRIM(t.address.state), '') IS NOT NULL
             """)
-    List<TrainingCentre> findTrainingCentresByMultipleFields(String centerCode, String centerName, Integer minCapacity,
-            Integer maxCapacity, String contactEmail, String contactPhone, String city, String state, String pincode,
-            List<String> courses);
+    int backfillSearchKeys();
 }
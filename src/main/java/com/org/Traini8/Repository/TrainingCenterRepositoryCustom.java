@@ -0,0 +1,89 @@
+package com.org.Traini8.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Custom repository fragment for queries whose shape depends on the input and
+ * therefore cannot be expressed as a single static {@code @Query}, and for
+ * read-only projections that bypass the persistence context.
+ */
+public interface TrainingCenterRepositoryCustom {
+
+    /**
+     * Finds the codes of Training Centres matching the given criteria, using a
+     * query that contains predicates only for the filters that are present.
+     *
+     * Results are ordered by center code and paginated by keyset: only centres
+     * whose code sorts after {@code afterCenterCode} are returned, and never more
+     * than {@code limit} of them.
+     *
+     * @param criteria        the normalized search criteria.
+     * @param afterCenterCode the center code of the last row of the previous page;
+     *                        only codes strictly greater are returned if not null.
+     * @param limit           the maximum number of codes to return.
+     * @return the matching center codes in ascending order.
+     */
+    List<String> findCenterCodes(TrainingCentreSearchCriteria criteria, String afterCenterCode, int limit);
+
+    /**
+     * Finds the codes of the Training Centres created after a feed position,
+     * for the change feed.
+     *
+     * Results are ordered by creation time, then center code, and paginated by
+     * keyset on that pair: a centre is returned if it was created after
+     * {@code createdOn}, or at {@code createdOn} with a code greater than
+     * {@code afterCenterCode}. Centres without a creation time are never
+     * returned.
+     *
+     * @param createdOn       the creation time of the last row of the previous
+     *                        page, in epoch milliseconds.
+     * @param afterCenterCode the center code of that row; empty to include every
+     *                        centre created at {@code createdOn}.
+     * @param createdUntil    the inclusive upper bound on creation time.
+     * @param limit           the maximum number of codes to return.
+     * @return the matching center codes in feed order.
+     */
+    List<String> findCenterCodesCreatedAfter(long createdOn, String afterCenterCode, long createdUntil, int limit);
+
+    /**
+     * Counts the Training Centres matching the given criteria, using the same
+     * predicates as {@link #findCenterCodes}.
+     *
+     * @param criteria the normalized search criteria.
+     * @return the number of matching centres.
+     */
+    long countCenterCodes(TrainingCentreSearchCriteria criteria);
+
+    /**
+     * Computes facet counts over the Training Centres matching the given
+     * criteria with GROUP BY and SUM aggregates, using the same predicates as
+     * {@link #findCenterCodes}. No rows are loaded beyond the aggregates.
+     *
+     * @param criteria the normalized search criteria.
+     * @return the facets of the matching centres.
+     */
+    TrainingCentreFacets findFacets(TrainingCentreSearchCriteria criteria);
+
+    /**
+     * Loads read-only views of all Training Centres with their courses in a
+     * single joined SELECT of scalar columns. No entities are instantiated.
+     *
+     * @return views of all Training Centres, ordered by center code.
+     */
+    List<TrainingCentreView> findAllViews();
+
+    /**
+     * Loads read-only views of the Training Centres with the given codes and
+     * their courses in a single joined SELECT of scalar columns. No entities
+     * are instantiated.
+     *
+     * @param centerCodes the center codes to load.
+     * @return views of the matching Training Centres, ordered by center code.
+     */
+    List<TrainingCentreView> findViewsByCenterCodes(Collection<String> centerCodes);
+}
@@ -0,0 +1,189 @@
+package com.org.Traini8.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.org.Traini8.Metrics.TrainingCentreQueryMetrics;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Implementation of {@link TrainingCenterRepositoryCustom} that assembles JPQL
+ * with {@link TrainingCentreQueryBuilder}. Spring Data picks this class up by
+ * its {@code Impl} suffix and merges it into {@link TrainingCenterRepository}.
+ * Each query is timed through {@link TrainingCentreQueryMetrics}; searches are
+ * tagged with the filters they applied.
+ *
+ * Search, count and view queries are cacheable in the {@value #SEARCH_CACHE_REGION}
+ * query cache region. Hibernate discards a cached result once the tables it
+ * read from have been written, whether by an entity insert or by
+ * {@link TrainingCentreBatchWriter}.
+ */
+public class TrainingCenterRepositoryCustomImpl implements TrainingCenterRepositoryCustom {
+
+    /** Query cache region of search results. */
+    public static final String SEARCH_CACHE_REGION = "traini8-search";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TrainingCentreQueryMetrics queryMetrics;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> findCenterCodes(final TrainingCentreSearchCriteria criteria, final String afterCenterCode,
+            final int limit) {
+        final var builder = new TrainingCentreQueryBuilder(criteria);
+        if (afterCenterCode != null) {
+            builder.and("t.centerCode > :afterCenterCode", "afterCenterCode", afterCenterCode);
+        }
+        final var jpql = "SELECT t.centerCode FROM TrainingCentre t" + builder.where() + " ORDER BY t.centerCode";
+        return queryMetrics.time("findCenterCodes", criteria.appliedFilters(),
+                () -> cached(builder.bind(entityManager.createQuery(jpql, String.class))).setMaxResults(limit)
+                        .getResultList());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The keyset predicate is a range scan of the {@code createdOn} index.
+     * InnoDB secondary indexes end with the primary key, so that index is
+     * already ordered by creation time and then center code.
+     */
+    @Override
+    public List<String> findCenterCodesCreatedAfter(final long createdOn, final String afterCenterCode,
+            final long createdUntil, final int limit) {
+        final var jpql = """
+                SELECT t.centerCode FROM TrainingCentre t
+                WHERE (t.createdOn > :createdOn OR (t.createdOn = :createdOn AND t.centerCode > :afterCenterCode))
+                  AND t.createdOn <= :createdUntil
+                ORDER BY t.createdOn, t.centerCode
+                """;
+        return queryMetrics.time("findCenterCodesCreatedAfter", TrainingCentreQueryMetrics.NOT_FILTERED,
+                () -> entityManager.createQuery(jpql, String.class).setParameter("createdOn", createdOn)
+                        .setParameter("afterCenterCode", afterCenterCode).setParameter("createdUntil", createdUntil)
+                        .setMaxResults(limit).getResultList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countCenterCodes(final TrainingCentreSearchCriteria criteria) {
+        final var builder = new TrainingCentreQueryBuilder(criteria);
+        final var jpql = "SELECT COUNT(t) FROM TrainingCentre t" + builder.where();
+        return queryMetrics.time("countCenterCodes", criteria.appliedFilters(),
+                () -> cached(builder.bind(entityManager.createQuery(jpql, Long.class))).getSingleResult());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TrainingCentreFacets findFacets(final TrainingCentreSearchCriteria criteria) {
+        final var builder = new TrainingCentreQueryBuilder(criteria);
+        return queryMetrics.time("findFacets", criteria.appliedFilters(), () -> {
+            final var bounds = TrainingCentreFacets.CAPACITY_BUCKET_BOUNDS;
+            final var buckets = new StringBuilder("SELECT COUNT(t)");
+            for (int bucket = 0; bucket < bounds.size(); bucket++) {
+                buckets.append(", SUM(CASE WHEN t.studentCapacity IS NOT NULL");
+                if (bucket > 0) {
+                    buckets.append(" AND t.studentCapacity >= ").append(bounds.get(bucket));
+                }
+                if (bucket + 1 < bounds.size()) {
+                    buckets.append(" AND t.studentCapacity < ").append(bounds.get(bucket + 1));
+                }
+                buckets.append(" THEN 1 ELSE 0 END)");
+            }
+            final var totals = builder.bind(entityManager.createQuery(
+                    buckets + " FROM TrainingCentre t" + builder.where(), Object[].class)).getSingleResult();
+            final Map<String, Long> capacity = new HashMap<>();
+            for (int bucket = 0; bucket < bounds.size(); bucket++) {
+                final var sum = (Number) totals[bucket + 1];
+                capacity.put(TrainingCentreFacets.capacityBucketLabel(bucket), sum == null ? 0 : sum.longValue());
+            }
+            return new TrainingCentreFacets(((Number) totals[0]).longValue(),
+                    groupCounts("SELECT t.address.stateKey, COUNT(t) FROM TrainingCentre t", builder,
+                            "t.address.stateKey"),
+                    groupCounts("SELECT t.address.cityKey, COUNT(t) FROM TrainingCentre t", builder,
+                            "t.address.cityKey"),
+                    groupCounts("SELECT LOWER(TRIM(o)), COUNT(DISTINCT t) FROM TrainingCentre t"
+                            + " JOIN t.coursesOffered o", builder, "LOWER(TRIM(o))"),
+                    capacity);
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TrainingCentreView> findAllViews() {
+        return queryMetrics.time("findAllViews", TrainingCentreQueryMetrics.NOT_FILTERED,
+                () -> foldViews(entityManager
+                        .createQuery(TrainingCentreRowFolder.JPQL_SELECT + " ORDER BY t.centerCode", Object[].class)
+                        .getResultList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TrainingCentreView> findViewsByCenterCodes(final Collection<String> centerCodes) {
+        if (centerCodes.isEmpty()) {
+            return List.of();
+        }
+        return queryMetrics.time("findViewsByCenterCodes", TrainingCentreQueryMetrics.NOT_FILTERED,
+                () -> foldViews(cached(entityManager
+                        .createQuery(TrainingCentreRowFolder.JPQL_SELECT
+                                + " WHERE t.centerCode IN :centerCodes ORDER BY t.centerCode", Object[].class))
+                        .setParameter("centerCodes", centerCodes).getResultList()));
+    }
+
+    /**
+     * Runs a two-column GROUP BY count query over the filtered centres, leaving
+     * out rows whose group key is null or blank, which the index never keys.
+     */
+    private Map<String, Long> groupCounts(final String select, final TrainingCentreQueryBuilder builder,
+            final String key) {
+        final var where = builder.where().isEmpty() ? " WHERE " : builder.where() + " AND ";
+        final var jpql = select + where + key + " IS NOT NULL GROUP BY " + key;
+        final Map<String, Long> counts = new HashMap<>();
+        builder.bind(entityManager.createQuery(jpql, Object[].class)).getResultList()
+                .stream().filter(row -> !((String) row[0]).isBlank())
+                .forEach(row -> counts.merge((String) row[0], ((Number) row[1]).longValue(), Long::sum));
+        return counts;
+    }
+
+    /**
+     * Marks a query as cacheable in the search results region.
+     */
+    private static <T> TypedQuery<T> cached(final TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, SEARCH_CACHE_REGION);
+    }
+
+    /**
+     * Folds joined centre/course rows into views.
+     */
+    private static List<TrainingCentreView> foldViews(final List<Object[]> rows) {
+        final List<TrainingCentreView> views = new ArrayList<>();
+        final var folder = new TrainingCentreRowFolder(views::add);
+        rows.forEach(folder::accept);
+        folder.finish();
+        return views;
+    }
+}
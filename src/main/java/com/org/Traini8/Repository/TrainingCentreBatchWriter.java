@@ -0,0 +1,108 @@
+package com.org.Traini8.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.org.Traini8.Metrics.TrainingCentreQueryMetrics;
+import com.org.Traini8.pojo.TrainingCentre;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes training centers with plain JDBC batch inserts, bypassing the JPA
+ * persistence context. Used by bulk registration, where the per-entity cost of
+ * {@code save()} (merge, dirty tracking, one INSERT per round trip) dominates.
+ *
+ * Column names are the physical names produced by Spring Boot's default
+ * naming strategy for the {@link TrainingCentre} mapping. With MySQL,
+ * {@code rewriteBatchedStatements=true} on the JDBC URL turns each batch into
+ * multi-row INSERT statements.
+ *
+ * Hibernate does not see these INSERTs, so the writer tells the query cache
+ * itself that the centre and course tables have changed, the same way
+ * Hibernate does for a native update: cached results are treated as stale
+ * from the insert until the transaction completes, and results read before
+ * the commit are never served afterwards. The entity and collection regions
+ * need no eviction because every inserted centre has a new id.
+ */
+@Repository
+public class TrainingCentreBatchWriter {
+
+    private static final String INSERT_CENTRE = """
+            INSERT INTO training_centre (center_code, center_name, detailed_address, city, state, pincode,
+                city_key, state_key, student_capacity, created_on, contact_email, contact_phone,
+                center_name_key, contact_email_key)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_COURSE = "INSERT INTO courses_offered (center_code, course) VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TrainingCentreQueryMetrics queryMetrics;
+
+    /**
+     * Inserts the given training centers and their courses as two JDBC batches.
+     * Search keys are normalized here because JPA lifecycle callbacks do not run
+     * on this path. Must be called inside a transaction so that centres and
+     * courses are stored atomically.
+     *
+     * @param trainingCentres the training centers to insert; each must have its
+     *                        creation time set.
+     */
+    public void insertAll(final List<TrainingCentre> trainingCentres) {
+        final List<Object[]> centreRows = new ArrayList<>(trainingCentres.size());
+        final List<Object[]> courseRows = new ArrayList<>();
+        for (final TrainingCentre centre : trainingCentres) {
+            centre.normalizeSearchKeys();
+            final var address = centre.getAddress();
+            centreRows.add(new Object[] { centre.getCenterCode(), centre.getCenterName(),
+                    address.getDetailedAddress(), address.getCity(), address.getState(), address.getPincode(),
+                    address.getCityKey(), address.getStateKey(), centre.getStudentCapacity(),
+                    centre.getCreatedOnEpochMilli(), centre.getContactEmail(), centre.getContactPhone(),
+                    centre.getCenterNameKey(), centre.getContactEmailKey() });
+            for (final String course : centre.getCoursesOffered()) {
+                courseRows.add(new Object[] { centre.getCenterCode(), course });
+            }
+        }
+        queryMetrics.record("insertAll", TrainingCentreQueryMetrics.NOT_FILTERED, () -> {
+            jdbcTemplate.batchUpdate(INSERT_CENTRE, centreRows);
+            jdbcTemplate.batchUpdate(INSERT_COURSE, courseRows);
+        });
+        queryMetrics.countStatements("insertAll", 2);
+        invalidateQueryCache();
+    }
+
+    /**
+     * Marks the centre and course tables as written in the query cache's
+     * update timestamps, now and again when the transaction completes.
+     */
+    private void invalidateQueryCache() {
+        final var session = entityManager.unwrap(SessionImplementor.class);
+        final var factory = session.getFactory();
+        if (!factory.getSessionFactoryOptions().isQueryCacheEnabled()) {
+            return;
+        }
+        final var metamodel = factory.getMappingMetamodel();
+        final var tables = Stream.concat(
+                Stream.of(metamodel.getEntityDescriptor(TrainingCentre.class).getQuerySpaces()),
+                Stream.of(metamodel.getCollectionDescriptor(TrainingCentre.class.getName() + ".coursesOffered")
+                        .getCollectionSpaces()))
+                .map(String.class::cast).distinct().toArray(String[]::new);
+        final var timestamps = factory.getCache().getTimestampsCache();
+        timestamps.preInvalidate(tables, session);
+        session.getActionQueue().registerProcess((success, completed) -> timestamps.invalidate(tables, completed));
+    }
+}
@@ -0,0 +1,101 @@
+package com.org.Traini8.Repository;
+
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.org.Traini8.Metrics.TrainingCentreQueryMetrics;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Reads every training center through a single forward-only JDBC cursor and
+ * hands them to a callback one at a time. Nothing is registered in a
+ * persistence context and at most one centre is held in memory, so the cost
+ * of a full scan does not depend on the table size.
+ *
+ * Centres and their courses are read with one LEFT JOIN ordered by center
+ * code; consecutive rows of the same centre are folded into one view. With
+ * MySQL, {@code useCursorFetch=true} on the JDBC URL makes the driver honour
+ * the fetch size with a server-side cursor instead of buffering the result.
+ */
+@Repository
+public class TrainingCentreCursorReader {
+
+    private static final String SELECT_ALL = """
+            SELECT t.center_code, t.center_name, t.detailed_address, t.city, t.state, t.pincode,
+                t.student_capacity, t.created_on, t.contact_email, t.contact_phone, c.course
+            FROM training_centre t
+            LEFT JOIN courses_offered c ON c.center_code = t.center_code
+            ORDER BY t.center_code
+            """;
+
+    private static final String SELECT_CREATED_SINCE = """
+            SELECT t.center_code, t.center_name, t.detailed_address, t.city, t.state, t.pincode,
+                t.student_capacity, t.created_on, t.contact_email, t.contact_phone, c.course
+            FROM training_centre t
+            LEFT JOIN courses_offered c ON c.center_code = t.center_code
+            WHERE t.created_on >= ?
+            ORDER BY t.center_code
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrainingCentreQueryMetrics queryMetrics;
+
+    /**
+     * Creates a reader with its own {@link JdbcTemplate} so the streaming fetch
+     * size does not leak into other JDBC users.
+     *
+     * @param dataSource   the application data source.
+     * @param fetchSize    the number of rows fetched per round trip.
+     * @param queryMetrics records the duration of each scan.
+     */
+    public TrainingCentreCursorReader(final DataSource dataSource,
+            @Value("${traini8.export.fetch-size:1000}") final int fetchSize,
+            final TrainingCentreQueryMetrics queryMetrics) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.queryMetrics = queryMetrics;
+    }
+
+    /**
+     * Streams every training center, in center code order, to the given
+     * consumer. The consumer runs while the cursor is open, so a slow consumer
+     * (for example a slow HTTP client) slows down reading instead of causing
+     * rows to pile up in memory.
+     *
+     * @param consumer receives each training center with its courses.
+     */
+    public void forEach(final Consumer<TrainingCentreView> consumer) {
+        stream("forEach", SELECT_ALL, consumer);
+    }
+
+    /**
+     * Streams the training centers created at or after a point in time, in
+     * center code order, to the given consumer. Used to bring a restored
+     * snapshot up to date; the scan uses the creation time index.
+     *
+     * @param createdOn the inclusive lower bound, in epoch milliseconds.
+     * @param consumer  receives each training center with its courses.
+     */
+    public void forEachCreatedSince(final long createdOn, final Consumer<TrainingCentreView> consumer) {
+        stream("forEachCreatedSince", SELECT_CREATED_SINCE, consumer, createdOn);
+    }
+
+    private void stream(final String query, final String sql, final Consumer<TrainingCentreView> consumer,
+            final Object... args) {
+        final var folder = new TrainingCentreRowFolder(consumer);
+        queryMetrics.record(query, TrainingCentreQueryMetrics.NOT_FILTERED, () -> {
+            jdbcTemplate.query(sql, rs -> {
+                folder.accept(new Object[] { rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                        rs.getString(5), rs.getString(6), rs.getObject(7, Integer.class),
+                        rs.getObject(8, Long.class), rs.getString(9), rs.getString(10), rs.getString(11) });
+            }, args);
+            folder.finish();
+        });
+        queryMetrics.countStatements(query, 1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.org.Traini8.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.org.Traini8.pojo.CourseMatchMode;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+import jakarta.persistence.Query;
+
+/**
+ * Builds the WHERE clause of a training center search from only the filters
+ * that are actually present in a {@link TrainingCentreSearchCriteria}. Each
+ * combination of filters therefore yields its own short JPQL string, which
+ * Hibernate caches as a query plan and the JDBC driver can cache as a
+ * prepared statement, instead of one catch-all statement with
+ * {@code :p IS NULL OR ...} branches for every filter.
+ *
+ * The root entity must be aliased {@code t}. The courses table is only
+ * referenced, through a correlated EXISTS (any course) or a correlated count
+ * (all courses), when a course filter is given.
+ */
+final class TrainingCentreQueryBuilder {
+
+    private final StringBuilder where = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    /**
+     * Creates a builder holding the predicates for the given criteria.
+     *
+     * @param criteria the normalized search criteria.
+     */
+    TrainingCentreQueryBuilder(final TrainingCentreSearchCriteria criteria) {
+        final var mode = criteria.matchMode();
+        text("t.centerCode", "centerCode", criteria.centerCode(), mode);
+        text("t.centerNameKey", "centerName", criteria.centerName(), mode);
+        text("t.contactEmailKey", "contactEmail", criteria.contactEmail(), mode);
+        text("t.contactPhone", "contactPhone", criteria.contactPhone(), mode);
+        text("t.address.cityKey", "city", criteria.city(), mode);
+        text("t.address.stateKey", "state", criteria.state(), mode);
+        if (criteria.pincode() != null) {
+            and("t.address.pincode = :pincode", "pincode", criteria.pincode());
+        }
+        if (criteria.minCapacity() != null) {
+            and("t.studentCapacity >= :minCapacity", "minCapacity", criteria.minCapacity());
+        }
+        if (criteria.maxCapacity() != null) {
+            and("t.studentCapacity <= :maxCapacity", "maxCapacity", criteria.maxCapacity());
+        }
+        if (criteria.hasCourses()) {
+            if (criteria.courseMatch() == CourseMatchMode.ALL) {
+                and("(SELECT COUNT(DISTINCT c) FROM t.coursesOffered c WHERE c IN :courses) = :courseCount",
+                        "courses", criteria.courses());
+                parameters.put("courseCount", (long) criteria.courses().size());
+            } else {
+                and("EXISTS (SELECT 1 FROM t.coursesOffered c WHERE c IN :courses)", "courses", criteria.courses());
+            }
+        }
+    }
+
+    /**
+     * Adds a predicate and its single named parameter, joined with AND.
+     *
+     * @param predicate the JPQL predicate referencing {@code :name}.
+     * @param name      the parameter name used in the predicate.
+     * @param value     the value to bind.
+     * @return this builder.
+     */
+    TrainingCentreQueryBuilder and(final String predicate, final String name, final Object value) {
+        where.append(where.isEmpty() ? " WHERE " : " AND ").append(predicate);
+        parameters.put(name, value);
+        return this;
+    }
+
+    /**
+     * Binds all collected parameters to a query created from {@link #where()}.
+     *
+     * @param <Q>   the query type.
+     * @param query the query to bind.
+     * @return the same query, for chaining.
+     */
+    <Q extends Query> Q bind(final Q query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    /**
+     * Returns the WHERE clause for the collected predicates.
+     *
+     * @return the clause including its leading {@code WHERE}, or an empty string
+     *         if no filter is present.
+     */
+    String where() {
+        return where.toString();
+    }
+
+    /**
+     * Adds a text predicate. Exact matches compare with {@code =}; prefix and
+     * contains matches use LIKE with wildcard characters in the value escaped by
+     * {@code '!'}, so prefix patterns stay index-assisted.
+     */
+    private void text(final String path, final String name, final String value, final SearchMatchMode mode) {
+        if (value == null) {
+            return;
+        }
+        if (mode == SearchMatchMode.EXACT) {
+            and(path + " = :" + name, name, value);
+            return;
+        }
+        final var escaped = value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        final var pattern = mode == SearchMatchMode.PREFIX ? escaped + "%" : "%" + escaped + "%";
+        and(path + " LIKE :" + name + " ESCAPE '!'", name, pattern);
+    }
+}
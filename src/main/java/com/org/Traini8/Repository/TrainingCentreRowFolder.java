@@ -0,0 +1,67 @@
+package com.org.Traini8.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.org.Traini8.pojo.AddressView;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Folds the rows of a centre-to-courses LEFT JOIN, ordered by center code,
+ * into one {@link TrainingCentreView} per centre. Rows are arrays in the
+ * column order of {@link #JPQL_SELECT}; the last column is the course, which
+ * is null for a centre without courses.
+ */
+final class TrainingCentreRowFolder {
+
+    /** JPQL select list and join producing rows in the order this folder expects. */
+    static final String JPQL_SELECT = """
+            SELECT t.centerCode, t.centerName, t.address.detailedAddress, t.address.city, t.address.state,
+                t.address.pincode, t.studentCapacity, t.createdOn, t.contactEmail, t.contactPhone, c
+            FROM TrainingCentre t LEFT JOIN t.coursesOffered c""";
+
+    private final Consumer<TrainingCentreView> consumer;
+    private Object[] current;
+    private List<String> courses;
+
+    /**
+     * Creates a folder that emits each completed centre to the consumer.
+     *
+     * @param consumer receives the views in row order.
+     */
+    TrainingCentreRowFolder(final Consumer<TrainingCentreView> consumer) {
+        this.consumer = consumer;
+    }
+
+    /**
+     * Folds one joined row.
+     *
+     * @param row the column values in {@link #JPQL_SELECT} order.
+     */
+    void accept(final Object[] row) {
+        if (current == null || !current[0].equals(row[0])) {
+            finish();
+            current = row;
+            courses = new ArrayList<>(4);
+        }
+        if (row[10] != null) {
+            courses.add((String) row[10]);
+        }
+    }
+
+    /**
+     * Emits the centre that is still being folded, if any. Must be called after
+     * the last row.
+     */
+    void finish() {
+        if (current == null) {
+            return;
+        }
+        final var row = current;
+        current = null;
+        consumer.accept(new TrainingCentreView((String) row[0], (String) row[1],
+                new AddressView((String) row[2], (String) row[3], (String) row[4], (String) row[5]),
+                (Integer) row[6], List.copyOf(courses), (Long) row[7], (String) row[8], (String) row[9]));
+    }
+}
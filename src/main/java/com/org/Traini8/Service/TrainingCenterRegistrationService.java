@@ -1,5 +1,8 @@
 package com.org.Traini8.Service;
 
+import java.util.List;
+
+import com.org.Traini8.pojo.BulkRegistrationResponse;
 import com.org.Traini8.pojo.TrainingCentre;
 
 import jakarta.validation.Valid;
@@ -32,4 +35,18 @@ public interface TrainingCenterRegistrationService {
      *                                  if it is null.
      */
     TrainingCentre saveTrainingCentre(@Valid TrainingCentre trainingCentre);
+
+    /**
+     * Registers many {@link TrainingCentre} objects in one call.
+     *
+     * Every item is validated first; invalid items and center codes that repeat
+     * within the request or already exist are reported and skipped rather than
+     * failing the whole request. The remaining items are stored in chunks, each
+     * in its own transaction, so a failure affects only the items of one chunk.
+     *
+     * @param trainingCentres The training centers to register; must not be null.
+     * @return A {@link BulkRegistrationResponse} with one result per submitted
+     *         item, in request order.
+     */
+    BulkRegistrationResponse saveTrainingCentres(List<TrainingCentre> trainingCentres);
 }
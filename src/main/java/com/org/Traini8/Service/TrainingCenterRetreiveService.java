@@ -2,7 +2,11 @@ package com.org.Traini8.Service;
 
 import java.util.List;
 
-import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreChangePage;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentrePage;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
 
 /**
  * The {@code TrainingCenterRetrieveService} interface defines the operations
@@ -17,31 +21,82 @@ public interface TrainingCenterRetreiveService {
     /**
      * Retrieves all training centers available in the database.
      *
-     * @return a list of {@link TrainingCentre} representing all training centers.
-     *         If no training centers are found, this method returns an empty list.
+     * @return a list of read-only {@link TrainingCentreView} representing all
+     *         training centers. If no training centers are found, this method
+     *         returns an empty list.
      */
-    List<TrainingCentre> findAllTrainingCenters();
+    List<TrainingCentreView> findAllTrainingCenters();
 
     /**
-     * Retrieves a list of training centers based on multiple search criteria. Any
-     * parameter can be null, in which case it will not be used as a filter.
-     *
-     * @param centerCode   Optional filter by center code.
-     * @param centerName   Optional filter by center name.
-     * @param minCapacity  Optional filter for minimum capacity of the center.
-     * @param maxCapacity  Optional filter for maximum capacity of the center.
-     * @param contactEmail Optional filter by contact email address.
-     * @param contactPhone Optional filter by contact phone number.
-     * @param city         Optional filter by city where the center is located.
-     * @param state        Optional filter by state where the center is located.
-     * @param pincode      Optional filter by postal code.
-     * @param courses      Optional list of courses; centers must offer all listed
-     *                     courses if specified.
-     *
-     * @return a list of {@link TrainingCentre} that match the specified criteria.
-     *         If no centers meet the criteria, this method returns an empty list.
+     * Retrieves one page of training centers matching the given search criteria.
+     * Filters that are not set in the criteria are not applied. Results are
+     * ordered by center code; the page size is capped by the server regardless
+     * of what the caller asks for.
+     *
+     * Text filters (center code, name, email, phone, city and state) are matched
+     * case-insensitively according to the criteria's match mode. Exact and prefix
+     * matches are index-assisted; contains matches scan and should be requested
+     * only when needed.
+     *
+     * A text query ({@link TrainingCentreSearchCriteria#text()}) matches the
+     * center name and detailed address with typo tolerance, and orders the
+     * results by relevance instead of center code. It is served only by the
+     * in-memory search index.
+     *
+     * @param criteria  The normalized search criteria.
+     * @param pageToken Optional opaque token from a previous page; null for the
+     *                  first page.
+     * @param pageSize  Optional requested page size; null for the default.
+     *
+     * @return a {@link TrainingCentrePage} holding the matching centers and the
+     *         token for the next page. If no centers meet the criteria, the page
+     *         is empty and has no next-page token.
+     * @throws com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException
+     *         if the page token or page size is invalid.
+     * @throws com.org.Traini8.ExceptionalHandling.CustomExceptions.SearchUnavailableException
+     *         if a text search arrives before the search index is ready.
+     */
+    TrainingCentrePage findByMultipleCriteria(TrainingCentreSearchCriteria criteria, String pageToken,
+            Integer pageSize);
+
+    /**
+     * Counts the training centers matching the given search criteria, applying
+     * the same filters as {@link #findByMultipleCriteria}.
+     *
+     * @param criteria The normalized search criteria.
+     * @return the number of matching training centers.
+     */
+    long countByMultipleCriteria(TrainingCentreSearchCriteria criteria);
+
+    /**
+     * Computes aggregate counts by state, city, course and capacity bucket over
+     * the training centers matching the given search criteria, applying the
+     * same filters as {@link #findByMultipleCriteria}. No centre is loaded.
+     *
+     * @param criteria The normalized search criteria.
+     * @return the facet counts of the matching training centers.
+     */
+    TrainingCentreFacets findFacets(TrainingCentreSearchCriteria criteria);
+
+    /**
+     * Retrieves one page of the change feed: the training centers registered
+     * after a position, ordered by creation time and then center code.
+     *
+     * The position is either a cursor returned by an earlier page or a
+     * watermark in epoch milliseconds; with neither, the feed starts with the
+     * oldest centre. Centres created within the configured settle delay are held
+     * back until it has passed, so that a centre committed shortly after a
+     * younger one is not skipped.
+     *
+     * @param cursor   Optional opaque cursor from a previous page.
+     * @param since    Optional watermark; only centres created strictly later are
+     *                 returned. Must not be combined with a cursor.
+     * @param pageSize Optional requested page size; null for the default.
+     * @return a {@link TrainingCentreChangePage} holding the centres and the
+     *         cursor to continue from.
+     * @throws com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException
+     *         if the cursor or page size is invalid, or both a cursor and a
+     *         watermark are given.
      */
-    List<TrainingCentre> findByMultipleCriteria(String centerCode, String centerName, Integer minCapacity,
-            Integer maxCapacity, String contactEmail, String contactPhone, String city, String state, String pincode,
-            List<String> courses);
+    TrainingCentreChangePage findChanges(String cursor, Long since, Integer pageSize);
 }
@@ -0,0 +1,30 @@
+package com.org.Traini8.Service;
+
+import java.io.OutputStream;
+
+/**
+ * The {@code TrainingCentreExportService} interface defines bulk export of the
+ * complete training center catalog. Implementations stream rows straight from
+ * the database to the caller's output, so memory use is independent of the
+ * number of centres exported.
+ */
+public interface TrainingCentreExportService {
+
+    /**
+     * Writes every training center to the output as newline-delimited JSON, one
+     * centre per line, in center code order. Each line has the same shape as a
+     * centre returned by the search endpoint.
+     *
+     * @param outputStream the destination; it is flushed but not closed.
+     */
+    void exportNdjson(OutputStream outputStream);
+
+    /**
+     * Writes every training center to the output as CSV with a header row, in
+     * center code order. Courses are joined into a single column separated by
+     * {@code ;}.
+     *
+     * @param outputStream the destination; it is flushed but not closed.
+     */
+    void exportCsv(OutputStream outputStream);
+}
@@ -0,0 +1,48 @@
+package com.org.Traini8.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.IdempotencyKeyConflictException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.RegistrationQueueFullException;
+import com.org.Traini8.pojo.RegistrationRequestStatus;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * The {@code TrainingCentreRegistrationQueue} interface defines the contract
+ * for asynchronous, write-behind registration of training centers.
+ *
+ * A request is validated and queued in the caller's thread, and written later
+ * in batches by background writers. Its progress is tracked under an
+ * identifier, and an optional idempotency key lets a client retry a request
+ * without registering its centres twice.
+ */
+public interface TrainingCentreRegistrationQueue {
+
+    /**
+     * Validates training centers and queues the valid ones for registration.
+     *
+     * Invalid items and center codes that repeat within the request get their
+     * final outcome immediately; the others are reported as pending until a
+     * writer has stored them. If the idempotency key was already used for the
+     * same centres, the earlier request is returned and nothing is queued.
+     *
+     * @param trainingCentres The training centers to register; must not be null.
+     * @param idempotencyKey  A client-chosen key identifying the request; may be
+     *                        null.
+     * @return The status of the request, new or earlier.
+     * @throws RegistrationQueueFullException  if the queue cannot take every
+     *                                         valid item; nothing is queued.
+     * @throws IdempotencyKeyConflictException if the key was used for other
+     *                                         centres.
+     */
+    RegistrationRequestStatus submit(List<TrainingCentre> trainingCentres, String idempotencyKey);
+
+    /**
+     * Looks up the current status of a request.
+     *
+     * @param id The identifier returned when the request was accepted.
+     * @return The status, or empty if the request is unknown or has expired.
+     */
+    Optional<RegistrationRequestStatus> status(String id);
+}
@@ -0,0 +1,36 @@
+package com.org.Traini8.Service;
+
+import java.util.List;
+
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Application event published by the registration service for every
+ * transaction that stores new training centers. Listeners that keep derived
+ * state (caches, in-memory views) should consume it with
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)} so they only react
+ * to data that is actually committed.
+ */
+public class TrainingCentresRegisteredEvent {
+
+    private final List<TrainingCentre> trainingCentres; // Centres stored by the transaction
+
+    /**
+     * Constructs an event for the given newly stored training centers.
+     *
+     * @param trainingCentres the training centers that were stored; must not be
+     *                        null.
+     */
+    public TrainingCentresRegisteredEvent(final List<TrainingCentre> trainingCentres) {
+        this.trainingCentres = List.copyOf(trainingCentres);
+    }
+
+    /**
+     * Gets the training centers stored by the transaction.
+     *
+     * @return An unmodifiable list of the newly stored training centers.
+     */
+    public List<TrainingCentre> getTrainingCentres() {
+        return trainingCentres;
+    }
+}
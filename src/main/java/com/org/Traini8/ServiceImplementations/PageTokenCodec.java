@@ -0,0 +1,177 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException;
+
+/**
+ * Encodes and decodes the opaque page tokens handed out by the search
+ * endpoint. A token carries the keyset position (the center code of the last
+ * row already returned) so the next page can resume with an index range scan
+ * instead of an OFFSET. Text searches are ordered by relevance, so their
+ * tokens carry the score as well as the center code of the last row. Change
+ * feed cursors carry the creation time and center code of the last row. Clients
+ * must treat tokens as opaque; the format is versioned so it can change
+ * without breaking tokens that are in flight.
+ */
+public final class PageTokenCodec {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private static final String RANKED_VERSION_PREFIX = "r1:";
+
+    private static final String CHANGE_VERSION_PREFIX = "c1:";
+
+    // Same shape as TrainingCentre.centerCode; anything else was not issued by us
+    private static final Pattern CENTER_CODE = Pattern.compile("^[A-Z0-9]{1,12}$");
+
+    private static final Pattern RANKED_POSITION = Pattern.compile("^(\\d{1,9}):([A-Z0-9]{1,12})$");
+
+    private static final Pattern CHANGE_POSITION = Pattern.compile("^(-?\\d{1,19}):([A-Z0-9]{0,12})$");
+
+    private PageTokenCodec() {
+    }
+
+    /**
+     * Decodes a page token back into the center code it was created from.
+     *
+     * @param pageToken the token received from a client; may be null or blank to
+     *                  request the first page.
+     * @return the center code after which the next page starts, or null for the
+     *         first page.
+     * @throws InvalidSearchRequestException if the token is malformed or was not
+     *                                       issued by this service.
+     */
+    public static String decode(final String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        final var centerCode = unwrap(pageToken, VERSION_PREFIX);
+        if (!CENTER_CODE.matcher(centerCode).matches()) {
+            throw new InvalidSearchRequestException("Malformed page token");
+        }
+        return centerCode;
+    }
+
+    /**
+     * Encodes the keyset position after the given center code into an opaque,
+     * URL-safe page token.
+     *
+     * @param lastCenterCode the center code of the last row on the current page.
+     * @return the page token that requests the rows following that code.
+     */
+    public static String encode(final String lastCenterCode) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastCenterCode).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a text search page token back into the ranked position it was
+     * created from.
+     *
+     * @param pageToken the token received from a client; may be null or blank to
+     *                  request the first page.
+     * @return the position after which the next page starts, or null for the
+     *         first page.
+     * @throws InvalidSearchRequestException if the token is malformed or was not
+     *                                       issued by this service for a text
+     *                                       search.
+     */
+    public static RankedPosition decodeRanked(final String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+        final var matcher = RANKED_POSITION.matcher(unwrap(pageToken, RANKED_VERSION_PREFIX));
+        if (!matcher.matches()) {
+            throw new InvalidSearchRequestException("Malformed page token");
+        }
+        return new RankedPosition(Integer.parseInt(matcher.group(1)), matcher.group(2));
+    }
+
+    /**
+     * Encodes the ranked position after the given result of a text search into
+     * an opaque, URL-safe page token.
+     *
+     * @param lastScore      the relevance score of the last row on the page.
+     * @param lastCenterCode the center code of the last row on the page.
+     * @return the page token that requests the rows ranked after that one.
+     */
+    public static String encodeRanked(final int lastScore, final String lastCenterCode) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (RANKED_VERSION_PREFIX + lastScore + ':' + lastCenterCode).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a change feed cursor back into the feed position it was created
+     * from.
+     *
+     * @param cursor the cursor received from a client; must not be blank.
+     * @return the position after which the feed continues.
+     * @throws InvalidSearchRequestException if the cursor is malformed or was not
+     *                                       issued by this service for the
+     *                                       change feed.
+     */
+    public static ChangePosition decodeChange(final String cursor) {
+        final var matcher = CHANGE_POSITION.matcher(unwrap(cursor, CHANGE_VERSION_PREFIX));
+        if (!matcher.matches()) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+        try {
+            return new ChangePosition(Long.parseLong(matcher.group(1)), matcher.group(2));
+        } catch (final NumberFormatException e) {
+            throw new InvalidSearchRequestException("Malformed cursor");
+        }
+    }
+
+    /**
+     * Encodes a change feed position into an opaque, URL-safe cursor.
+     *
+     * @param position the position of the last row the client has received.
+     * @return the cursor that requests the rows created after that one.
+     */
+    public static String encodeChange(final ChangePosition position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (CHANGE_VERSION_PREFIX + position.createdOn() + ':' + position.centerCode())
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes the Base64 envelope of a token and strips its version prefix.
+     *
+     * @throws InvalidSearchRequestException if the token is not Base64 or has
+     *                                       another version.
+     */
+    private static String unwrap(final String pageToken, final String versionPrefix) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Malformed page token");
+        }
+        if (!decoded.startsWith(versionPrefix)) {
+            throw new InvalidSearchRequestException("Unsupported page token");
+        }
+        return decoded.substring(versionPrefix.length());
+    }
+
+    /**
+     * Position of the last row of a text search page.
+     *
+     * @param score      the relevance score of the row.
+     * @param centerCode the center code of the row.
+     */
+    public record RankedPosition(int score, String centerCode) {
+    }
+
+    /**
+     * Position of the last row of a change feed page.
+     *
+     * @param createdOn  the creation time of the row, in epoch milliseconds.
+     * @param centerCode the center code of the row; empty for a position before
+     *                   every centre created at {@code createdOn}.
+     */
+    public record ChangePosition(long createdOn, String centerCode) {
+    }
+}
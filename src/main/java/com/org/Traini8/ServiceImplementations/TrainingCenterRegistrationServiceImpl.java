@@ -1,18 +1,38 @@
 package com.org.Traini8.ServiceImplementations;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.DuplicateTrainingCenterException;
 import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Repository.TrainingCentreBatchWriter;
 import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCentresRegisteredEvent;
+import com.org.Traini8.pojo.BulkRegistrationResponse;
+import com.org.Traini8.pojo.BulkRegistrationResult;
+import com.org.Traini8.pojo.BulkRegistrationStatus;
 import com.org.Traini8.pojo.TrainingCentre;
 
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 
 /**
  * Implementation of {@link TrainingCenterRegistrationService} that handles the
@@ -30,31 +50,176 @@ public class TrainingCenterRegistrationServiceImpl implements TrainingCenterRegi
     @Autowired
     private TrainingCenterRepository trainingCentreRepository;
 
+    @Autowired
+    private TrainingCentreBatchWriter trainingCentreBatchWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${traini8.registration.batch-size:500}")
+    private int batchSize;
+
     /**
      * Saves a validated {@link TrainingCentre} to the database with transaction
      * management.
      *
      * This method sets the 'createdOn' field to the current date and time just
-     * before persisting the object. If any exception occurs during the save
-     * operation, it logs the error and rethrows a {@link RuntimeException}.
+     * before persisting the object, and publishes a
+     * {@link TrainingCentresRegisteredEvent} that listeners observe once the
+     * transaction commits. The centre is new, so it is inserted without reading
+     * the row first, and flushed immediately so that a taken center code
+     * surfaces here as a primary-key violation. If any other exception occurs
+     * during the save operation, it logs the error and rethrows a
+     * {@link RuntimeException}.
      *
      * @param trainingCentre The {@link TrainingCentre} object to be saved; must be
      *                       valid according to Jakarta Bean Validation.
      * @return The {@link TrainingCentre} object after it has been saved, reflecting
      *         any automatic updates from the database such as generated IDs or
      *         timestamps.
-     * @throws RuntimeException if there is an error during the database operation,
-     *                          encapsulating the original exception.
+     * @throws DuplicateTrainingCenterException if the center code is already
+     *                                          registered.
+     * @throws RuntimeException                 if there is an error during the
+     *                                          database operation, encapsulating
+     *                                          the original exception.
      */
     @Override
     @Transactional
     public TrainingCentre saveTrainingCentre(@Valid final TrainingCentre trainingCentre) {
         try {
             trainingCentre.setCreatedOn(LocalDateTime.now()); // Set the creation time just before saving
-            return trainingCentreRepository.save(trainingCentre);
+            final var savedTrainingCentre = trainingCentreRepository.saveAndFlush(trainingCentre);
+            eventPublisher.publishEvent(new TrainingCentresRegisteredEvent(List.of(savedTrainingCentre)));
+            return savedTrainingCentre;
+        } catch (final DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                throw new DuplicateTrainingCenterException(
+                        "Training Centre already exists: " + trainingCentre.getCenterCode(), e);
+            }
+            logger.error("Failed to save Training Centre: {}", trainingCentre.getCenterCode(), e);
+            throw new RuntimeException("Failed to save Training Centre: " + e.getMessage(), e);
         } catch (final Exception e) {
             logger.error("Failed to save Training Centre: {}", trainingCentre.getCenterCode(), e);
             throw new RuntimeException("Failed to save Training Centre: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Registers many training centers using JDBC batch inserts.
+     *
+     * Items are validated up front with the same constraints as the single
+     * registration endpoint. Valid items are written in chunks of
+     * {@code traini8.registration.batch-size}; each chunk runs in its own
+     * transaction that first checks which codes already exist (one SELECT) and
+     * then inserts centres and courses as two JDBC batches. A
+     * {@link TrainingCentresRegisteredEvent} is published per committed chunk.
+     * If a chunk fails, its items are reported as failed and the following
+     * chunks are still attempted.
+     *
+     * @param trainingCentres The training centers to register.
+     * @return A {@link BulkRegistrationResponse} with one result per item.
+     */
+    @Override
+    public BulkRegistrationResponse saveTrainingCentres(final List<TrainingCentre> trainingCentres) {
+        final var results = new BulkRegistrationResult[trainingCentres.size()];
+        final Set<String> seenCenterCodes = new HashSet<>();
+        final List<Integer> accepted = new ArrayList<>(trainingCentres.size());
+        for (int i = 0; i < trainingCentres.size(); i++) {
+            final var trainingCentre = trainingCentres.get(i);
+            final var errors = validate(trainingCentre);
+            if (!errors.isEmpty()) {
+                final var centerCode = trainingCentre == null ? null : trainingCentre.getCenterCode();
+                results[i] = new BulkRegistrationResult(i, centerCode, BulkRegistrationStatus.INVALID, null, errors);
+            } else if (!seenCenterCodes.add(trainingCentre.getCenterCode())) {
+                results[i] = new BulkRegistrationResult(i, trainingCentre.getCenterCode(),
+                        BulkRegistrationStatus.DUPLICATE, "Center code appears earlier in the request", null);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < accepted.size(); from += batchSize) {
+            final var chunk = accepted.subList(from, Math.min(from + batchSize, accepted.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(trainingCentres, chunk, results));
+            } catch (final Exception e) {
+                logger.error("Failed to save chunk of {} Training Centres", chunk.size(), e);
+                for (final int i : chunk) {
+                    if (results[i] == null || results[i].getStatus() == BulkRegistrationStatus.CREATED) {
+                        results[i] = new BulkRegistrationResult(i, trainingCentres.get(i).getCenterCode(),
+                                BulkRegistrationStatus.FAILED, "Failed to save Training Centre: " + e.getMessage(),
+                                null);
+                    }
+                }
+            }
+        }
+        return new BulkRegistrationResponse(Arrays.asList(results));
+    }
+
+    /**
+     * Stores one chunk of validated training centers inside the current
+     * transaction, recording a result for every item of the chunk.
+     */
+    private void insertChunk(final List<TrainingCentre> trainingCentres, final List<Integer> chunk,
+            final BulkRegistrationResult[] results) {
+        final var centerCodes = chunk.stream().map(i -> trainingCentres.get(i).getCenterCode()).toList();
+        final Set<String> existing = new HashSet<>(trainingCentreRepository.findExistingCenterCodes(centerCodes));
+        final var createdOn = LocalDateTime.now();
+        final List<TrainingCentre> toInsert = new ArrayList<>(chunk.size());
+        for (final int i : chunk) {
+            final var trainingCentre = trainingCentres.get(i);
+            if (existing.contains(trainingCentre.getCenterCode())) {
+                results[i] = new BulkRegistrationResult(i, trainingCentre.getCenterCode(),
+                        BulkRegistrationStatus.DUPLICATE, "Center code is already registered", null);
+            } else {
+                trainingCentre.setCreatedOn(createdOn);
+                toInsert.add(trainingCentre);
+                results[i] = new BulkRegistrationResult(i, trainingCentre.getCenterCode(),
+                        BulkRegistrationStatus.CREATED, null, null);
+            }
+        }
+        if (!toInsert.isEmpty()) {
+            trainingCentreBatchWriter.insertAll(toInsert);
+            eventPublisher.publishEvent(new TrainingCentresRegisteredEvent(toInsert));
+        }
+    }
+
+    /**
+     * Validates one item of a bulk request with Jakarta Bean Validation.
+     *
+     * @return the field errors keyed by property path; empty if the item is
+     *         valid.
+     */
+    private Map<String, String> validate(final TrainingCentre trainingCentre) {
+        final var errors = new LinkedHashMap<String, String>();
+        if (trainingCentre == null) {
+            errors.put("trainingCentre", "Training centre is required");
+            return errors;
+        }
+        validator.validate(trainingCentre)
+                .forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    /**
+     * Returns whether a data integrity violation was caused by a duplicate key,
+     * using the SQL state ({@code 23505}) or MySQL's error code ({@code 1062})
+     * of the underlying {@link SQLException}.
+     */
+    private static boolean isDuplicateKey(final Throwable throwable) {
+        for (var cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof final SQLException sqlException
+                    && ("23505".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1062)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
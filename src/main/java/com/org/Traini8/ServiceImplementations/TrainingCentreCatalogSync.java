@@ -0,0 +1,102 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.org.Traini8.Index.TrainingCentreIndex;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Repository.TrainingCenterRepositoryCustomImpl;
+import com.org.Traini8.pojo.TrainingCentreCatalogState;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Brings the derived state of this instance up to date with centres stored
+ * elsewhere. Registrations made here update the search index and the search
+ * cache as soon as they commit; centres registered through another instance,
+ * or written to the database directly, can only be noticed by polling the
+ * shared database.
+ *
+ * Every {@code traini8.catalog.sync-interval} the number of stored centres and
+ * the latest creation time are read from the primary. When they have changed,
+ * the index catches up with the centres it has not seen, Hibernate's cached
+ * search queries and the cached search pages those centres could change are
+ * evicted, and the data version is bumped, in the same order as after a local
+ * commit. Centres stored elsewhere therefore appear within about one interval.
+ * While the index is not loaded, the new centres are not known; the whole
+ * search cache is cleared and the version bumped on every change, including
+ * changes made by this instance.
+ */
+@Component
+public class TrainingCentreCatalogSync {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreCatalogSync.class);
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCentreIndex trainingCentreIndex;
+
+    @Autowired
+    private TrainingCentreSearchCacheInvalidator searchCacheInvalidator;
+
+    @Autowired
+    private TrainingCentreDataVersion dataVersion;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${traini8.catalog.sync-interval:5s}")
+    private Duration syncInterval;
+
+    private TrainingCentreCatalogState lastState; // State at the end of the last successful sync
+
+    /**
+     * Starts syncing once the application is ready, one interval from now.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleWithFixedDelay(this::sync, Instant.now().plus(syncInterval), syncInterval);
+    }
+
+    /**
+     * Checks the stored catalog for changes and applies them. A failed sync is
+     * logged and retried at the next interval.
+     */
+    public synchronized void sync() {
+        try {
+            final var state = trainingCenterRepository.findCatalogState();
+            if (state.equals(lastState)) {
+                return;
+            }
+            final var added = trainingCentreIndex.catchUp(state.count());
+            if (added.isEmpty() || !added.get().isEmpty()) {
+                entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                        .evictQueryRegion(TrainingCenterRepositoryCustomImpl.SEARCH_CACHE_REGION);
+                if (added.isEmpty()) {
+                    searchCacheInvalidator.clear();
+                } else {
+                    searchCacheInvalidator.evict(added.get());
+                }
+                dataVersion.advance(state.latestCreatedOn() == null ? -1 : state.latestCreatedOn());
+            }
+            lastState = state;
+        } catch (final RuntimeException e) {
+            logger.warn("Cannot sync with the stored training centre catalog; retrying at the next interval", e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCentresRegisteredEvent;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Version of the training centre catalog, used to validate conditional GET
+ * requests without querying the database. The version is bumped after every
+ * committed registration, and by the catalog sync when it finds centres
+ * stored by other instances; because centres are never updated or deleted,
+ * an unchanged version means every read endpoint would return the same body.
+ *
+ * The entity tag combines the version with a token chosen at startup, so tags
+ * issued before a restart, or by another instance, never match. The last
+ * modification time is the latest {@code createdOn}, read once when the
+ * application is ready and then advanced from registrations and syncs.
+ *
+ * The tag is weak: the same version is served as JSON, CBOR or Smile, with
+ * or without gzip, and a strong tag would both misdescribe those variants and
+ * stop the servlet container from compressing the response.
+ *
+ * The version is bumped by the last listener to run after a commit, once the
+ * search index and cache already reflect the new centres. A request that sees
+ * the new tag therefore never gets a body computed from the old data.
+ */
+@Component
+public class TrainingCentreDataVersion {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreDataVersion.class);
+
+    private final String instanceToken = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong lastModified = new AtomicLong(-1);
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    /**
+     * Reads the latest creation time once the application is ready. Until then
+     * responses carry an entity tag but no {@code Last-Modified}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLastModified() {
+        final var latest = trainingCenterRepository.findLatestCreatedOn();
+        if (latest != null) {
+            lastModified.accumulateAndGet(latest, Math::max);
+        }
+        logger.info("Training centre data version {} last modified at {}", etag(), lastModified.get());
+    }
+
+    /**
+     * Bumps the version after new centres have committed. Runs after every
+     * other listener of the event.
+     *
+     * {@code Last-Modified} has a resolution of one second, and a centre's
+     * {@code createdOn} is taken when the object is built, not when it commits.
+     * The last modification time is therefore also moved to at least the next
+     * whole second, so {@code If-Modified-Since} never hides the change.
+     *
+     * @param event the event describing the committed training centers.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingCentresRegistered(final TrainingCentresRegisteredEvent event) {
+        advance(event.getTrainingCentres().stream().map(TrainingCentre::getCreatedOnEpochMilli)
+                .filter(Objects::nonNull).mapToLong(Long::longValue).max().orElse(-1));
+    }
+
+    /**
+     * Bumps the version after centres have been stored, as described for
+     * {@link #onTrainingCentresRegistered}. The catalog sync calls it for
+     * centres stored by other instances, once the index and the search cache
+     * reflect them.
+     *
+     * @param latestCreatedOn the latest creation time of the stored centres in
+     *                        epoch milliseconds, or -1 if unknown.
+     */
+    public void advance(final long latestCreatedOn) {
+        lastModified.updateAndGet(previous -> Math.max(latestCreatedOn,
+                previous < 0 ? previous : previous - previous % 1000 + 1000));
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the weak entity tag of the current catalog version.
+     *
+     * @return the quoted entity tag.
+     */
+    public String etag() {
+        return "W/\"" + instanceToken + "-" + version.get() + "\"";
+    }
+
+    /**
+     * Returns when the catalog last changed.
+     *
+     * @return the latest creation time in epoch milliseconds, or -1 if unknown.
+     */
+    public long lastModified() {
+        return lastModified.get();
+    }
+}
@@ -0,0 +1,136 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.org.Traini8.Repository.TrainingCentreCursorReader;
+import com.org.Traini8.Service.TrainingCentreExportService;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Implementation of {@link TrainingCentreExportService} that feeds rows from
+ * {@link TrainingCentreCursorReader} directly into the response stream.
+ *
+ * Output is written through a small buffer that is flushed every
+ * {@value #FLUSH_EVERY} centres. Writes block while the client is not reading,
+ * which in turn pauses the database cursor; this is what keeps a slow client
+ * from making the server buffer the export in memory.
+ */
+@Service
+public class TrainingCentreExportServiceImpl implements TrainingCentreExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreExportServiceImpl.class);
+
+    private static final int FLUSH_EVERY = 500;
+
+    private static final String CSV_HEADER = "centerCode,centerName,detailedAddress,city,state,pincode,"
+            + "studentCapacity,coursesOffered,createdOn,contactEmail,contactPhone\n";
+
+    @Autowired
+    private TrainingCentreCursorReader trainingCentreCursorReader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Streams all training centers as NDJSON.
+     *
+     * @param outputStream the destination stream.
+     * @throws UncheckedIOException if writing to the stream fails, typically
+     *                              because the client disconnected.
+     */
+    @Override
+    public void exportNdjson(final OutputStream outputStream) {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null); // Lines are separated explicitly below
+            final var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            final long[] count = { 0 };
+            trainingCentreCursorReader.forEach(centre -> {
+                try {
+                    writer.writeValue(generator, centre);
+                    generator.writeRaw('\n');
+                    if (++count[0] % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+            logger.info("Exported {} training centres as NDJSON", count[0]);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Streams all training centers as CSV.
+     *
+     * @param outputStream the destination stream.
+     * @throws UncheckedIOException if writing to the stream fails, typically
+     *                              because the client disconnected.
+     */
+    @Override
+    public void exportCsv(final OutputStream outputStream) {
+        try {
+            final Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            writer.write(CSV_HEADER);
+            final long[] count = { 0 };
+            trainingCentreCursorReader.forEach(centre -> {
+                try {
+                    writeCsvRow(writer, centre);
+                    if (++count[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            logger.info("Exported {} training centres as CSV", count[0]);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes one training center as a CSV row.
+     */
+    private static void writeCsvRow(final Writer writer, final TrainingCentreView centre) throws IOException {
+        final var address = centre.address();
+        final var createdOn = centre.createdOn();
+        writer.write(csv(centre.centerCode()) + ',' + csv(centre.centerName()) + ','
+                + csv(address.detailedAddress()) + ',' + csv(address.city()) + ',' + csv(address.state()) + ','
+                + csv(address.pincode()) + ',' + csv(String.valueOf(centre.studentCapacity())) + ','
+                + csv(String.join(";", centre.coursesOffered())) + ','
+                + csv(createdOn == null ? null : createdOn.toString()) + ',' + csv(centre.contactEmail()) + ','
+                + csv(centre.contactPhone()) + '\n');
+    }
+
+    /**
+     * Quotes a CSV field when it contains a separator, quote or line break.
+     */
+    private static String csv(final String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
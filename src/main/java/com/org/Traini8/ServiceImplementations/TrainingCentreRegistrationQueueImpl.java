@@ -0,0 +1,365 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.IdempotencyKeyConflictException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.RegistrationQueueFullException;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCentreRegistrationQueue;
+import com.org.Traini8.pojo.BulkRegistrationResult;
+import com.org.Traini8.pojo.BulkRegistrationStatus;
+import com.org.Traini8.pojo.RegistrationRequestStatus;
+import com.org.Traini8.pojo.TrainingCentre;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+
+/**
+ * Implementation of {@link TrainingCentreRegistrationQueue} backed by a
+ * bounded in-memory queue and a fixed pool of writer threads.
+ *
+ * The queue holds at most {@code traini8.registration.async.queue-capacity}
+ * centres. A request is queued entirely or not at all, so a client that is
+ * turned away can retry it as is. Each writer takes up to
+ * {@code traini8.registration.batch-size} centres at a time, across requests,
+ * and stores them through
+ * {@link TrainingCenterRegistrationService#saveTrainingCentres}, so a batch is
+ * one duplicate check and one JDBC batch in one transaction. If the batch
+ * fails, for example because another instance registered one of its codes
+ * after the check, each failed centre is retried once on its own, so only the
+ * offending centre is reported, as a duplicate.
+ *
+ * Request statuses and idempotency keys are kept for
+ * {@code traini8.registration.async.retention}. The queue is not durable:
+ * centres that are acknowledged but not yet written are lost if the process
+ * stops abruptly. On a normal shutdown the writers first drain the queue; a
+ * writer interrupted because that takes too long reports the centres it has
+ * taken, and those still queued, as failed.
+ */
+@Service
+public class TrainingCentreRegistrationQueueImpl implements TrainingCentreRegistrationQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreRegistrationQueueImpl.class);
+
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    @Autowired
+    private TrainingCenterRegistrationService trainingCenterRegistrationService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${traini8.registration.batch-size:500}")
+    private int batchSize;
+
+    @Value("${traini8.registration.async.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${traini8.registration.async.writers:2}")
+    private int writers;
+
+    @Value("${traini8.registration.async.retention:1h}")
+    private Duration retention;
+
+    @Value("${traini8.registration.async.max-tracked-requests:100000}")
+    private long maxTrackedRequests;
+
+    private final BlockingQueue<QueuedCentre> queue = new LinkedBlockingQueue<>();
+    private Semaphore freeSlots;
+    private Cache<String, Job> jobsById;
+    private Cache<String, Job> jobsByIdempotencyKey;
+    private ExecutorService writerPool;
+    private volatile boolean running;
+
+    /**
+     * Creates the request caches and starts the writers.
+     */
+    @PostConstruct
+    public void start() {
+        freeSlots = new Semaphore(queueCapacity);
+        jobsById = Caffeine.newBuilder().expireAfterWrite(retention).maximumSize(maxTrackedRequests).build();
+        jobsByIdempotencyKey = Caffeine.newBuilder().expireAfterWrite(retention).maximumSize(maxTrackedRequests)
+                .build();
+        Gauge.builder("traini8.registration.queue", queue, Collection::size)
+                .description("Training centres waiting to be written by asynchronous registration")
+                .register(meterRegistry);
+
+        running = true;
+        writerPool = Executors.newFixedThreadPool(writers, new CustomizableThreadFactory("registration-writer-"));
+        for (int i = 0; i < writers; i++) {
+            writerPool.execute(this::drain);
+        }
+    }
+
+    /**
+     * Stops accepting requests and waits for the writers to store what is
+     * already queued.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerPool.shutdown();
+        if (!writerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Stopped with {} queued Training Centres not written", queue.size());
+            writerPool.shutdownNow();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RegistrationRequestStatus submit(final List<TrainingCentre> trainingCentres, final String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return enqueue(trainingCentres, null).status();
+        }
+        final var fingerprint = fingerprint(trainingCentres);
+        final var job = jobsByIdempotencyKey.get(idempotencyKey, key -> enqueue(trainingCentres, fingerprint));
+        if (!MessageDigest.isEqual(job.fingerprint, fingerprint)) {
+            throw new IdempotencyKeyConflictException(
+                    "Idempotency key was already used for different training centres: " + idempotencyKey);
+        }
+        return job.status();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<RegistrationRequestStatus> status(final String id) {
+        return Optional.ofNullable(jobsById.getIfPresent(id)).map(Job::status);
+    }
+
+    /**
+     * Validates a request and queues its valid, distinct centres.
+     */
+    private Job enqueue(final List<TrainingCentre> trainingCentres, final byte[] fingerprint) {
+        if (!running) {
+            throw new RegistrationQueueFullException("Registration queue is shutting down");
+        }
+        final var job = new Job(UUID.randomUUID().toString(), fingerprint, trainingCentres.size());
+        final Set<String> seenCenterCodes = new HashSet<>();
+        final List<Integer> accepted = new ArrayList<>(trainingCentres.size());
+        for (int i = 0; i < trainingCentres.size(); i++) {
+            final var trainingCentre = trainingCentres.get(i);
+            final var errors = validate(trainingCentre);
+            if (!errors.isEmpty()) {
+                final var centerCode = trainingCentre == null ? null : trainingCentre.getCenterCode();
+                job.complete(new BulkRegistrationResult(i, centerCode, BulkRegistrationStatus.INVALID, null, errors));
+            } else if (!seenCenterCodes.add(trainingCentre.getCenterCode())) {
+                job.complete(new BulkRegistrationResult(i, trainingCentre.getCenterCode(),
+                        BulkRegistrationStatus.DUPLICATE, "Center code appears earlier in the request", null));
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (!freeSlots.tryAcquire(accepted.size())) {
+            throw new RegistrationQueueFullException(
+                    "Registration queue cannot take " + accepted.size() + " more Training Centres; retry later");
+        }
+        for (final int i : accepted) {
+            final var trainingCentre = trainingCentres.get(i);
+            job.complete(new BulkRegistrationResult(i, trainingCentre.getCenterCode(),
+                    BulkRegistrationStatus.PENDING, null, null));
+            queue.add(new QueuedCentre(job, i, trainingCentre));
+        }
+        jobsById.put(job.id, job);
+        logger.debug("Queued {} of {} Training Centres as request {}", accepted.size(), trainingCentres.size(),
+                job.id);
+        return job;
+    }
+
+    /**
+     * Writer loop: takes batches off the queue until the service stops and the
+     * queue is empty, or the writer is interrupted.
+     */
+    private void drain() {
+        final List<QueuedCentre> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                final var first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                fail(batch, "Registration queue stopped before the Training Centre was written");
+                return;
+            } finally {
+                freeSlots.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Stores one batch and records the outcome of each centre in its request.
+     * Centres of a batch may come from several requests; a center code queued
+     * by another request first is reported as already registered. Failed
+     * centres are retried once, one by one, so a centre registered elsewhere
+     * between the duplicate check and the insert is reported as a duplicate
+     * instead of failing its whole batch.
+     */
+    private void write(final List<QueuedCentre> batch) {
+        final var results = store(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            final var queued = batch.get(i);
+            var result = results.get(i);
+            if (result.getStatus() == BulkRegistrationStatus.FAILED) {
+                result = store(List.of(queued)).get(0);
+            }
+            final var message = result.getStatus() == BulkRegistrationStatus.DUPLICATE
+                    ? "Center code is already registered"
+                    : result.getMessage();
+            queued.job.complete(new BulkRegistrationResult(queued.index, result.getCenterCode(), result.getStatus(),
+                    message, result.getErrors()));
+        }
+    }
+
+    /**
+     * Stores centres through the registration service.
+     *
+     * @return one result per centre, in order; all failed if the service
+     *         throws.
+     */
+    private List<BulkRegistrationResult> store(final List<QueuedCentre> batch) {
+        try {
+            return trainingCenterRegistrationService
+                    .saveTrainingCentres(batch.stream().map(QueuedCentre::trainingCentre).toList()).getResults();
+        } catch (final Exception e) {
+            logger.error("Failed to write batch of {} queued Training Centres", batch.size(), e);
+            return IntStream.range(0, batch.size())
+                    .mapToObj(i -> new BulkRegistrationResult(i, batch.get(i).trainingCentre.getCenterCode(),
+                            BulkRegistrationStatus.FAILED, "Failed to save Training Centre: " + e.getMessage(), null))
+                    .toList();
+        }
+    }
+
+    /**
+     * Records every centre of a batch as failed with the given message.
+     */
+    private static void fail(final List<QueuedCentre> batch, final String message) {
+        for (final QueuedCentre queued : batch) {
+            queued.job.complete(new BulkRegistrationResult(queued.index, queued.trainingCentre.getCenterCode(),
+                    BulkRegistrationStatus.FAILED, message, null));
+        }
+    }
+
+    /**
+     * Validates one item with Jakarta Bean Validation.
+     *
+     * @return the field errors keyed by property path; empty if the item is
+     *         valid.
+     */
+    private Map<String, String> validate(final TrainingCentre trainingCentre) {
+        final var errors = new LinkedHashMap<String, String>();
+        if (trainingCentre == null) {
+            errors.put("trainingCentre", "Training centre is required");
+            return errors;
+        }
+        validator.validate(trainingCentre)
+                .forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return errors;
+    }
+
+    /**
+     * Identifies the centres of a request by a SHA-256 digest of their codes,
+     * in order, so that a retry with the same idempotency key can be told from
+     * a different request. Each code is length-prefixed, and a missing centre
+     * or code hashes differently from any code.
+     */
+    private static byte[] fingerprint(final List<TrainingCentre> trainingCentres) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+        for (final TrainingCentre centre : trainingCentres) {
+            final var centerCode = centre == null ? null : centre.getCenterCode();
+            if (centerCode == null) {
+                digest.update((byte) 0);
+            } else {
+                final var bytes = centerCode.getBytes(StandardCharsets.UTF_8);
+                digest.update((byte) 1);
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+                digest.update(bytes);
+            }
+        }
+        return digest.digest();
+    }
+
+    /** One centre waiting in the queue, with its request and position. */
+    private record QueuedCentre(Job job, int index, TrainingCentre trainingCentre) {
+    }
+
+    /** An accepted request and the latest outcome of each of its items. */
+    private static final class Job {
+        private final String id;
+        private final byte[] fingerprint; // Null for a request without an idempotency key
+        private final LocalDateTime submittedOn = LocalDateTime.now();
+        private final AtomicReferenceArray<BulkRegistrationResult> results;
+
+        private Job(final String id, final byte[] fingerprint, final int size) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+            this.results = new AtomicReferenceArray<>(size);
+        }
+
+        private void complete(final BulkRegistrationResult result) {
+            results.set(result.getIndex(), result);
+        }
+
+        private RegistrationRequestStatus status() {
+            final List<BulkRegistrationResult> snapshot = new ArrayList<>(results.length());
+            for (int i = 0; i < results.length(); i++) {
+                snapshot.add(results.get(i));
+            }
+            return new RegistrationRequestStatus(id, submittedOn, snapshot);
+        }
+    }
+}
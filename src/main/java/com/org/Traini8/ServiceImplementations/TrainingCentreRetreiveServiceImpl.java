@@ -1,43 +1,98 @@
 package com.org.Traini8.ServiceImplementations;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.InvalidSearchRequestException;
+import com.org.Traini8.ExceptionalHandling.CustomExceptions.SearchUnavailableException;
+import com.org.Traini8.Index.ScoredCenterCode;
+import com.org.Traini8.Index.TrainingCentreIndex;
 import com.org.Traini8.Repository.TrainingCenterRepository;
 import com.org.Traini8.Service.TrainingCenterRetreiveService;
-import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.ServiceImplementations.PageTokenCodec.ChangePosition;
+import com.org.Traini8.pojo.TrainingCentreChangePage;
+import com.org.Traini8.pojo.TrainingCentreFacets;
+import com.org.Traini8.pojo.TrainingCentrePage;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
 
 /**
  * Implementation of {@link TrainingCenterRetreiveService} that interacts with
  * the database to fetch and filter data regarding training centers.
  *
  * This service utilizes Spring's Dependency Injection to integrate components
- * and the {@link TrainingCenterRepository} for data access operations.
+ * and the {@link TrainingCenterRepository} for data access operations. All
+ * reads run in read-only transactions and return {@link TrainingCentreView}
+ * projections built from scalar query rows, so no entity is ever registered
+ * in the persistence context on these paths.
  */
 @Service
 public class TrainingCentreRetreiveServiceImpl implements TrainingCenterRetreiveService {
 
+    /** Name of the cache holding search result pages. */
+    public static final String SEARCH_CACHE = "trainingCentreSearch";
+
     private static final Logger logger = LoggerFactory.getLogger(TrainingCentreRetreiveServiceImpl.class);
 
     @Autowired
     private TrainingCenterRepository trainingCenterRepository;
 
+    @Autowired
+    private TrainingCentreIndex trainingCentreIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TrainingCentreSearchCacheInvalidator searchCacheInvalidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${traini8.search.default-page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${traini8.search.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${traini8.changes.default-page-size:100}")
+    private int defaultChangesPageSize;
+
+    @Value("${traini8.changes.max-page-size:1000}")
+    private int maxChangesPageSize;
+
+    @Value("${traini8.changes.settle-delay:10s}")
+    private Duration settleDelay;
+
     /**
-     * Retrieves all training centers from the database. This method handles any
-     * exceptions by logging them and rethrowing as a runtime exception.
+     * Retrieves all training centers. They come from the in-memory catalog of
+     * the {@link TrainingCentreIndex} once it has loaded, and from the database
+     * otherwise, with courses fetched in the same SELECT as the centres. This
+     * method handles any exceptions by logging them and rethrowing as a
+     * runtime exception.
      *
-     * @return a list of all {@link TrainingCentre} objects from the database. If no
-     *         training centers are found, this method returns an empty list.
+     * @return a list of all {@link TrainingCentreView} objects. If no training
+     *         centers are found, this method returns an empty list.
      * @throws RuntimeException if there is an error during database access.
      */
     @Override
-    public List<TrainingCentre> findAllTrainingCenters() {
+    @Transactional(readOnly = true)
+    public List<TrainingCentreView> findAllTrainingCenters() {
         try {
-            return trainingCenterRepository.findAll();
+            return trainingCentreIndex.findAllViews().orElseGet(trainingCenterRepository::findAllViews);
         } catch (final Exception e) {
             logger.error("Error retrieving training centers", e);
             throw new RuntimeException("Error retrieving training centers: " + e.getMessage(), e);
@@ -45,35 +100,287 @@ public class TrainingCentreRetreiveServiceImpl implements TrainingCenterRetreive
     }
 
     /**
-     * Retrieves a list of training centers based on multiple filtering criteria.
-     * Parameters are optional and used to filter the results accordingly.
+     * Retrieves one page of training centers matching the given criteria.
+     *
+     * The page is read in two steps: the filter query resolves the center
+     * codes of the page with a keyset predicate, then the centres and their
+     * courses are loaded as read-only views. The codes come from the in-memory
+     * {@link TrainingCentreIndex} whenever it can evaluate the criteria;
+     * otherwise the filter query is assembled by the repository from only the
+     * filters that are present, and references the courses table only when a
+     * course filter is given. The centres come from the index's in-memory
+     * catalog when it holds all of them, and from one joined SELECT otherwise.
+     * One extra code beyond the page size is read; its presence decides
+     * whether a next-page token is issued. Requested page sizes above the
+     * configured maximum are clamped to it.
      *
-     * @param centerCode   Optional filter by center code.
-     * @param centerName   Optional filter by center name.
-     * @param minCapacity  Optional filter for minimum capacity.
-     * @param maxCapacity  Optional filter for maximum capacity.
-     * @param contactEmail Optional filter by contact email.
-     * @param contactPhone Optional filter by contact phone.
-     * @param city         Optional filter by city.
-     * @param state        Optional filter by state.
-     * @param pincode      Optional filter by pincode.
-     * @param courses      Optional list of courses to filter by; centers must offer
-     *                     all listed courses if specified.
-     * @return a list of {@link TrainingCentre} that meet the specified criteria. If
-     *         no centers match the criteria, this method returns an empty list.
-     * @throws RuntimeException if there is an error during database access or data
-     *                          filtering.
+     * Criteria with a text query are ranked by relevance instead, and are
+     * answered only by the index; see {@link #findRankedPage}.
+     *
+     * Pages are cached in {@value #SEARCH_CACHE} by criteria and page position;
+     * {@link TrainingCentreSearchCacheInvalidator} evicts the affected entries
+     * when new centres are committed. A search that overlaps such an eviction
+     * may have read the data from before the commit, so it removes the page it
+     * has just cached again. A cache hit does not open a transaction.
+     *
+     * @param criteria  The normalized search criteria.
+     * @param pageToken Optional opaque token of the page to continue from.
+     * @param pageSize  Optional requested page size.
+     * @return a {@link TrainingCentrePage} of centers that meet the specified
+     *         criteria. If no centers match the criteria, the page is empty.
+     * @throws InvalidSearchRequestException if the page token or page size is
+     *                                       invalid, or the text query is
+     *                                       combined with unsupported filters.
+     * @throws SearchUnavailableException    if a text search arrives before the
+     *                                       index is ready.
+     * @throws RuntimeException              if there is an error during database
+     *                                       access or data filtering.
      */
     @Override
-    public List<TrainingCentre> findByMultipleCriteria(final String centerCode, final String centerName,
-            final Integer minCapacity, final Integer maxCapacity, final String contactEmail, final String contactPhone,
-            final String city, final String state, final String pincode, final List<String> courses) {
+    public TrainingCentrePage findByMultipleCriteria(final TrainingCentreSearchCriteria criteria,
+            final String pageToken, final Integer pageSize) {
+        final var key = new TrainingCentreSearchKey(criteria, pageToken, pageSize);
+        final var cache = cacheManager.getCache(SEARCH_CACHE);
+        final var cached = cache.get(key, TrainingCentrePage.class);
+        if (cached != null) {
+            return cached;
+        }
+        final var generation = searchCacheInvalidator.generation();
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        final var page = transactionTemplate.execute(status -> searchPage(criteria, pageToken, pageSize));
+        cache.put(key, page);
+        if (searchCacheInvalidator.generation() != generation) {
+            cache.evict(key); // Centres committed during the search; the page may predate them
+        }
+        return page;
+    }
+
+    /**
+     * Reads one page of training centers matching the given criteria; see
+     * {@link #findByMultipleCriteria}.
+     */
+    private TrainingCentrePage searchPage(final TrainingCentreSearchCriteria criteria, final String pageToken,
+            final Integer pageSize) {
+        if (criteria.hasText()) {
+            return findRankedPage(criteria, pageToken, pageSize);
+        }
+        final var afterCenterCode = PageTokenCodec.decode(pageToken);
+        final var limit = resolvePageSize(pageSize, defaultPageSize, maxPageSize);
         try {
-            return trainingCenterRepository.findTrainingCentresByMultipleFields(centerCode, centerName, minCapacity,
-                    maxCapacity, contactEmail, contactPhone, city, state, pincode, courses);
+            final var codes = trainingCentreIndex.findCenterCodes(criteria, afterCenterCode, limit + 1)
+                    .orElseGet(() -> trainingCenterRepository.findCenterCodes(criteria, afterCenterCode, limit + 1));
+            if (codes.isEmpty()) {
+                return new TrainingCentrePage(List.of(), null);
+            }
+            final var hasNextPage = codes.size() > limit;
+            final var pageCodes = hasNextPage ? codes.subList(0, limit) : codes;
+            final var items = trainingCentreIndex.findViews(pageCodes)
+                    .orElseGet(() -> trainingCenterRepository.findViewsByCenterCodes(pageCodes));
+            return new TrainingCentrePage(items, hasNextPage ? PageTokenCodec.encode(pageCodes.get(limit - 1)) : null);
         } catch (final Exception e) {
             logger.error("Error retrieving training centers with filters", e);
             throw new RuntimeException("Error retrieving training centers with filters: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Counts the training centers matching the given criteria. The count comes
+     * from the in-memory {@link TrainingCentreIndex} whenever it can evaluate
+     * the criteria, and from a COUNT query over the same predicates otherwise.
+     *
+     * @param criteria The normalized search criteria.
+     * @return the number of matching training centers.
+     * @throws InvalidSearchRequestException if the text query is combined with
+     *                                       unsupported filters.
+     * @throws SearchUnavailableException    if a text query arrives before the
+     *                                       index is ready.
+     * @throws RuntimeException              if there is an error during database
+     *                                       access.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countByMultipleCriteria(final TrainingCentreSearchCriteria criteria) {
+        if (criteria.hasText()) {
+            requireTextIndex(criteria);
+        }
+        try {
+            return trainingCentreIndex.count(criteria)
+                    .orElseGet(() -> trainingCenterRepository.countCenterCodes(criteria));
+        } catch (final Exception e) {
+            logger.error("Error counting training centers with filters", e);
+            throw new RuntimeException("Error counting training centers with filters: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Computes facet counts over the training centers matching the given
+     * criteria. The counts come from the in-memory {@link TrainingCentreIndex}
+     * whenever it can evaluate the criteria, and from GROUP BY aggregates over
+     * the same predicates otherwise.
+     *
+     * @param criteria The normalized search criteria.
+     * @return the facet counts of the matching training centers.
+     * @throws InvalidSearchRequestException if the text query is combined with
+     *                                       unsupported filters.
+     * @throws SearchUnavailableException    if a text query arrives before the
+     *                                       index is ready.
+     * @throws RuntimeException              if there is an error during database
+     *                                       access.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TrainingCentreFacets findFacets(final TrainingCentreSearchCriteria criteria) {
+        if (criteria.hasText()) {
+            requireTextIndex(criteria);
+        }
+        try {
+            return trainingCentreIndex.facets(criteria).orElseGet(() -> trainingCenterRepository.findFacets(criteria));
+        } catch (final Exception e) {
+            logger.error("Error computing training center facets", e);
+            throw new RuntimeException("Error computing training center facets: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves one page of the change feed.
+     *
+     * The codes of the page come from a keyset query on creation time and
+     * center code, which reads the {@code createdOn} index from the client's
+     * position onwards, so a page costs the same whatever the table size.
+     * Creation times are set before a registration commits, so rows created in
+     * the last {@code traini8.changes.settle-delay} are left out: a client
+     * whose cursor passed them could otherwise miss an older row committed
+     * later. The settle delay only covers commit order on the primary; a
+     * replica applies rows late and not always in creation order, so the
+     * transaction is not read-only and the primary answers. The centres come
+     * from the index's in-memory catalog when it holds all of them, and from
+     * one joined SELECT otherwise. One extra code beyond the page size decides
+     * {@code hasMore}. Pages are not cached, since the settled range moves with
+     * the clock.
+     *
+     * @param cursor   Optional opaque cursor of the page to continue from.
+     * @param since    Optional watermark to start after.
+     * @param pageSize Optional requested page size.
+     * @return a {@link TrainingCentreChangePage} of the centres created after
+     *         the position, with the cursor to continue from.
+     * @throws InvalidSearchRequestException if the cursor or page size is
+     *                                       invalid, or both a cursor and a
+     *                                       watermark are given.
+     * @throws RuntimeException              if there is an error during database
+     *                                       access.
+     */
+    @Override
+    @Transactional
+    public TrainingCentreChangePage findChanges(final String cursor, final Long since, final Integer pageSize) {
+        final var hasCursor = cursor != null && !cursor.isBlank();
+        if (hasCursor && since != null) {
+            throw new InvalidSearchRequestException("Use either cursor or since, not both");
+        }
+        final var limit = resolvePageSize(pageSize, defaultChangesPageSize, maxChangesPageSize);
+        final var position = hasCursor ? PageTokenCodec.decodeChange(cursor)
+                : since == null ? new ChangePosition(Long.MIN_VALUE, "")
+                        : new ChangePosition(since == Long.MAX_VALUE ? since : since + 1, "");
+        try {
+            final var settledUntil = System.currentTimeMillis() - settleDelay.toMillis();
+            final var codes = trainingCenterRepository.findCenterCodesCreatedAfter(position.createdOn(),
+                    position.centerCode(), settledUntil, limit + 1);
+            if (codes.isEmpty()) {
+                return new TrainingCentreChangePage(List.of(), PageTokenCodec.encodeChange(position), false);
+            }
+            final var hasMore = codes.size() > limit;
+            final var items = findViewsInOrder(hasMore ? codes.subList(0, limit) : codes);
+            final var last = items.get(items.size() - 1);
+            return new TrainingCentreChangePage(items,
+                    PageTokenCodec.encodeChange(new ChangePosition(last.createdOnEpochMilli(), last.centerCode())),
+                    hasMore);
+        } catch (final Exception e) {
+            logger.error("Error retrieving training center changes", e);
+            throw new RuntimeException("Error retrieving training center changes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Retrieves one page of a text search. The ranked codes of the page and,
+     * normally, the centres come from the {@link TrainingCentreIndex}; centres
+     * the catalog does not hold are loaded in one joined SELECT and put back in
+     * rank order. As with the keyset path, one
+     * extra result decides whether a next-page token is issued; the token
+     * holds the score and code of the last result.
+     */
+    private TrainingCentrePage findRankedPage(final TrainingCentreSearchCriteria criteria, final String pageToken,
+            final Integer pageSize) {
+        final var after = PageTokenCodec.decodeRanked(pageToken);
+        final var limit = resolvePageSize(pageSize, defaultPageSize, maxPageSize);
+        requireTextIndex(criteria);
+        try {
+            final var ranked = trainingCentreIndex.findRankedCenterCodes(criteria,
+                    after == null ? null : after.score(), after == null ? null : after.centerCode(), limit + 1)
+                    .orElseThrow(() -> new IllegalStateException("Search index stopped answering text searches"));
+            if (ranked.isEmpty()) {
+                return new TrainingCentrePage(List.of(), null);
+            }
+            final var hasNextPage = ranked.size() > limit;
+            final var pageCodes = hasNextPage ? ranked.subList(0, limit) : ranked;
+            final var items = findViewsInOrder(pageCodes.stream().map(ScoredCenterCode::centerCode).toList());
+            final var last = pageCodes.get(pageCodes.size() - 1);
+            return new TrainingCentrePage(items,
+                    hasNextPage ? PageTokenCodec.encodeRanked(last.score(), last.centerCode()) : null);
+        } catch (final Exception e) {
+            logger.error("Error retrieving training centers by text", e);
+            throw new RuntimeException("Error retrieving training centers by text: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the views of the given centres in the order of the codes, from the
+     * in-memory catalog when it holds all of them, and from one joined SELECT
+     * otherwise. Centres deleted in the meantime are left out.
+     */
+    private List<TrainingCentreView> findViewsInOrder(final List<String> codes) {
+        return trainingCentreIndex.findViews(codes).orElseGet(() -> {
+            final var views = trainingCenterRepository.findViewsByCenterCodes(codes).stream()
+                    .collect(Collectors.toMap(TrainingCentreView::centerCode, Function.identity()));
+            return codes.stream().map(views::get).filter(Objects::nonNull).toList();
+        });
+    }
+
+    /**
+     * Checks that the index can serve a text search, which has no database
+     * fallback.
+     *
+     * @throws SearchUnavailableException    if the index has not finished loading
+     *                                       or is disabled.
+     * @throws InvalidSearchRequestException if the text query is combined with
+     *                                       filters the index does not evaluate.
+     */
+    private void requireTextIndex(final TrainingCentreSearchCriteria criteria) {
+        if (!trainingCentreIndex.isReady()) {
+            throw new SearchUnavailableException("Text search is unavailable until the search index has loaded");
+        }
+        if (!trainingCentreIndex.supports(criteria)) {
+            throw new InvalidSearchRequestException(
+                    "Text search cannot be combined with centerCode, centerName, contactEmail or contactPhone");
+        }
+    }
+
+    /**
+     * Resolves the effective page size for a request, applying the configured
+     * default and maximum.
+     *
+     * @param pageSize        the page size requested by the client, or null.
+     * @param defaultPageSize the configured default page size.
+     * @param maxPageSize     the configured maximum page size.
+     * @return the number of rows to return on the page.
+     * @throws InvalidSearchRequestException if the requested size is not positive.
+     */
+    private static int resolvePageSize(final Integer pageSize, final int defaultPageSize, final int maxPageSize) {
+        if (pageSize == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (pageSize < 1) {
+            throw new InvalidSearchRequestException("Page size must be at least 1");
+        }
+        return Math.min(pageSize, maxPageSize);
+    }
 }
@@ -0,0 +1,95 @@
+package com.org.Traini8.ServiceImplementations;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.org.Traini8.Service.TrainingCentresRegisteredEvent;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Keeps the search result cache consistent with registrations. After a
+ * registration commits, only cached searches whose criteria match one of the
+ * new centres are evicted; every other cached page is still exact, because
+ * centres are never updated or deleted.
+ *
+ * Each eviction first advances a generation counter. A search that read the
+ * counter before the commit and finds it changed after caching its page
+ * cannot tell whether it saw the new centres, so it removes that page again.
+ */
+@Component
+public class TrainingCentreSearchCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreSearchCacheInvalidator.class);
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Returns the number of evictions started so far.
+     *
+     * @return the current generation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Evicts the cached search pages affected by newly committed training
+     * centers. Runs only after the registering transaction has committed, so a
+     * rolled-back registration never disturbs the cache.
+     *
+     * @param event the event describing the committed training centers.
+     */
+    @Order(0) // After the search index, before the data version is bumped
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTrainingCentresRegistered(final TrainingCentresRegisteredEvent event) {
+        evict(event.getTrainingCentres().stream().map(TrainingCentreView::of).toList());
+    }
+
+    /**
+     * Evicts the cached search pages that the given stored centres could
+     * change. The catalog sync calls it for centres stored by other instances.
+     *
+     * @param centres the training centers that were stored.
+     */
+    public void evict(final List<TrainingCentreView> centres) {
+        generation.incrementAndGet();
+        final var cache = cacheManager.getCache(TrainingCentreRetreiveServiceImpl.SEARCH_CACHE);
+        if (!(cache instanceof final CaffeineCache caffeineCache)) {
+            if (cache != null) {
+                cache.clear(); // Unknown cache provider; fall back to clearing everything
+            }
+            return;
+        }
+        final var keys = caffeineCache.getNativeCache().asMap().keySet();
+        final var sizeBefore = keys.size();
+        keys.removeIf(key -> !(key instanceof final TrainingCentreSearchKey searchKey)
+                || centres.stream().anyMatch(searchKey.criteria()::matches));
+        logger.debug("Evicted {} cached searches after storing {} training centres", sizeBefore - keys.size(),
+                centres.size());
+    }
+
+    /**
+     * Evicts every cached search page, for when the stored centres that
+     * changed are not known.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        final var cache = cacheManager.getCache(TrainingCentreRetreiveServiceImpl.SEARCH_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.org.Traini8.ServiceImplementations;
+
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+/**
+ * Cache key of one search result page: the normalized filter tuple plus the
+ * page position and size as requested. Keeping the criteria as a typed
+ * component lets cache invalidation test each cached search against a newly
+ * registered centre instead of clearing the whole cache.
+ *
+ * @param criteria  the normalized search criteria.
+ * @param pageToken the page token as received, or null for the first page.
+ * @param pageSize  the page size as received, or null for the default.
+ */
+record TrainingCentreSearchKey(TrainingCentreSearchCriteria criteria, String pageToken, Integer pageSize) {
+}
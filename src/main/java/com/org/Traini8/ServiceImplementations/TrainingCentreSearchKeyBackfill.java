@@ -0,0 +1,44 @@
+package com.org.Traini8.ServiceImplementations;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+
+/**
+ * Populates the normalized search-key columns for training centers that were
+ * registered before those columns were introduced. New rows get their keys
+ * from {@link com.org.Traini8.pojo.TrainingCentre#normalizeSearchKeys()} on
+ * write; this component only closes the gap for legacy rows, once, at startup.
+ */
+@Component
+public class TrainingCentreSearchKeyBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCentreSearchKeyBackfill.class);
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    /**
+     * Backfills missing search keys once the application has started. Failures
+     * are logged and do not prevent startup; affected rows are simply not found
+     * by exact or prefix searches until the next successful run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillSearchKeys() {
+        try {
+            final var updated = trainingCenterRepository.backfillSearchKeys();
+            if (updated > 0) {
+                logger.info("Backfilled search keys for {} training centres", updated);
+            }
+        } catch (final Exception e) {
+            logger.error("Failed to backfill training centre search keys", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.org.Traini8.pojo;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -31,6 +33,23 @@ public class Address {
     @Pattern(regexp = "\\d{6}", message = "Pincode must be 6 digits")
     private String pincode;
 
+    @Column(name = "cityKey")
+    @JsonIgnore
+    private String cityKey; // Normalized city, maintained on write for indexed search
+
+    @Column(name = "stateKey")
+    @JsonIgnore
+    private String stateKey; // Normalized state, maintained on write for indexed search
+
+    /**
+     * Recomputes the normalized search keys from the current city and state. Called
+     * by {@link TrainingCentre} before the owning centre is written.
+     */
+    void normalizeSearchKeys() {
+        this.cityKey = SearchKeys.normalize(city);
+        this.stateKey = SearchKeys.normalize(state);
+    }
+
     // Getters
 
     /**
@@ -42,6 +61,15 @@ public class Address {
         return city;
     }
 
+    /**
+     * Returns the normalized city used for indexed search.
+     *
+     * @return the normalized city, or null if not yet computed.
+     */
+    public String getCityKey() {
+        return cityKey;
+    }
+
     /**
      * Returns the detailed address.
      *
@@ -69,6 +97,15 @@ public class Address {
         return state;
     }
 
+    /**
+     * Returns the normalized state used for indexed search.
+     *
+     * @return the normalized state, or null if not yet computed.
+     */
+    public String getStateKey() {
+        return stateKey;
+    }
+
     // Setters
 
     /**
@@ -0,0 +1,14 @@
+package com.org.Traini8.pojo;
+
+/**
+ * Read-only projection of an {@link Address}, as returned by the search and
+ * listing endpoints. It serializes to the same JSON as the embedded address of
+ * a {@link TrainingCentre}.
+ *
+ * @param detailedAddress the detailed address.
+ * @param city            the city.
+ * @param state           the state.
+ * @param pincode         the 6-digit pincode.
+ */
+public record AddressView(String detailedAddress, String city, String state, String pincode) {
+}
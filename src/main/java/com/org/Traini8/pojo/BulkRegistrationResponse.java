@@ -0,0 +1,71 @@
+package com.org.Traini8.pojo;
+
+import java.util.List;
+
+/**
+ * Represents the response to a bulk registration request: one
+ * {@link BulkRegistrationResult} per submitted item, in request order, plus
+ * the number of items per outcome.
+ */
+public class BulkRegistrationResponse {
+
+    private final List<BulkRegistrationResult> results; // Per-item outcomes in request order
+
+    /**
+     * Constructs a bulk registration response.
+     *
+     * @param results the per-item outcomes, in request order.
+     */
+    public BulkRegistrationResponse(final List<BulkRegistrationResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Gets the number of training centers that were stored.
+     *
+     * @return The count of {@link BulkRegistrationStatus#CREATED} items.
+     */
+    public long getCreated() {
+        return count(BulkRegistrationStatus.CREATED);
+    }
+
+    /**
+     * Gets the number of items rejected as duplicates.
+     *
+     * @return The count of {@link BulkRegistrationStatus#DUPLICATE} items.
+     */
+    public long getDuplicate() {
+        return count(BulkRegistrationStatus.DUPLICATE);
+    }
+
+    /**
+     * Gets the number of items that could not be stored because of an error.
+     *
+     * @return The count of {@link BulkRegistrationStatus#FAILED} items.
+     */
+    public long getFailed() {
+        return count(BulkRegistrationStatus.FAILED);
+    }
+
+    /**
+     * Gets the number of items that failed validation.
+     *
+     * @return The count of {@link BulkRegistrationStatus#INVALID} items.
+     */
+    public long getInvalid() {
+        return count(BulkRegistrationStatus.INVALID);
+    }
+
+    /**
+     * Gets the per-item outcomes.
+     *
+     * @return The results in request order.
+     */
+    public List<BulkRegistrationResult> getResults() {
+        return results;
+    }
+
+    private long count(final BulkRegistrationStatus status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,83 @@
+package com.org.Traini8.pojo;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the outcome of one item of a bulk registration request. Items are
+ * identified by their position in the request, because an invalid item may not
+ * carry a usable center code.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRegistrationResult {
+
+    private final int index; // Zero-based position of the item in the request
+    private final String centerCode; // Center code of the item, as submitted
+    private final BulkRegistrationStatus status; // Outcome for the item
+    private final String message; // Reason for a DUPLICATE or FAILED outcome
+    private final Map<String, String> errors; // Field errors for an INVALID outcome
+
+    /**
+     * Constructs a bulk registration result.
+     *
+     * @param index      the zero-based position of the item in the request.
+     * @param centerCode the center code as submitted; may be null.
+     * @param status     the outcome for the item.
+     * @param message    the reason for the outcome; may be null.
+     * @param errors     the field validation errors; may be null.
+     */
+    public BulkRegistrationResult(final int index, final String centerCode, final BulkRegistrationStatus status,
+            final String message, final Map<String, String> errors) {
+        this.index = index;
+        this.centerCode = centerCode;
+        this.status = status;
+        this.message = message;
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the center code of the item.
+     *
+     * @return The center code as submitted, or null if none was given.
+     */
+    public String getCenterCode() {
+        return centerCode;
+    }
+
+    /**
+     * Gets the field validation errors of an invalid item.
+     *
+     * @return The errors keyed by field path, or null if the item was valid.
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the position of the item in the request.
+     *
+     * @return The zero-based index of the item.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the reason for the outcome.
+     *
+     * @return The message, or null for created and invalid items.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets the outcome for the item.
+     *
+     * @return The registration status.
+     */
+    public BulkRegistrationStatus getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,25 @@
+package com.org.Traini8.pojo;
+
+/**
+ * Outcome of registering one training center as part of a bulk request.
+ */
+public enum BulkRegistrationStatus {
+
+    /** The training center was stored. */
+    CREATED,
+
+    /** The training center failed Bean Validation and was not stored. */
+    INVALID,
+
+    /** The center code already exists, or appears earlier in the same batch. */
+    DUPLICATE,
+
+    /** The chunk containing the training center could not be stored. */
+    FAILED,
+
+    /**
+     * The training center was accepted for asynchronous registration and is
+     * waiting to be written.
+     */
+    PENDING
+}
@@ -0,0 +1,30 @@
+package com.org.Traini8.pojo;
+
+import java.util.Locale;
+
+/**
+ * Describes how the {@code courses} filter of a training center search
+ * combines several courses.
+ */
+public enum CourseMatchMode {
+
+    /** A centre must offer at least one of the courses. This is the default. */
+    ANY,
+
+    /** A centre must offer every one of the courses. */
+    ALL;
+
+    /**
+     * Parses a course match mode from a request parameter, ignoring case.
+     *
+     * @param value the parameter value; may be null or blank.
+     * @return the matching mode, or {@link #ANY} if no value was given.
+     * @throws IllegalArgumentException if the value names no known mode.
+     */
+    public static CourseMatchMode fromParameter(final String value) {
+        if (value == null || value.isBlank()) {
+            return ANY;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,90 @@
+package com.org.Traini8.pojo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Matching and ranking rules of the typo-tolerant text search over a centre's
+ * name and detailed address. Text is compared by trigrams: each word of the
+ * normalized text is padded with one space on both sides and cut into every
+ * run of three characters, so {@code "pune"} becomes {@code " pu"},
+ * {@code "pun"}, {@code "une"} and {@code "ne "}. A misspelled or partial word
+ * still shares most of its trigrams with the stored word.
+ *
+ * A centre matches when at least half of the query trigrams occur in its name
+ * or address. Matches are ranked by a score that counts each query trigram
+ * found in the name twice and each one found in the address once.
+ *
+ * The in-memory search index and the cache invalidation path both apply these
+ * rules, so they always agree on which centres a text query matches.
+ */
+public final class FuzzyText {
+
+    /** Score of a query trigram found in the center name. */
+    public static final int NAME_WEIGHT = 2;
+
+    /** Score of a query trigram found in the detailed address. */
+    public static final int ADDRESS_WEIGHT = 1;
+
+    private FuzzyText() {
+    }
+
+    /**
+     * Splits a text into its distinct trigrams.
+     *
+     * @param value the text; may be null.
+     * @return the trigrams in order of first occurrence; empty if the text has
+     *         no letters or digits.
+     */
+    public static Set<String> trigrams(final String value) {
+        final Set<String> trigrams = new LinkedHashSet<>();
+        final var normalized = SearchKeys.normalize(value);
+        if (normalized == null) {
+            return trigrams;
+        }
+        for (final String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            final var padded = ' ' + word + ' ';
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns how many query trigrams a centre must contain to match.
+     *
+     * @param queryTrigrams the number of distinct query trigrams.
+     * @return the minimum number of trigrams found, at least 1.
+     */
+    public static int requiredHits(final int queryTrigrams) {
+        return Math.max(1, (queryTrigrams + 1) / 2);
+    }
+
+    /**
+     * Scores a centre against a query.
+     *
+     * @param query           the query trigrams, from {@link #trigrams}.
+     * @param centerName      the center name; may be null.
+     * @param detailedAddress the detailed address; may be null.
+     * @return the ranking score, or 0 if the centre does not match.
+     */
+    public static int score(final Set<String> query, final String centerName, final String detailedAddress) {
+        final var name = trigrams(centerName);
+        final var address = trigrams(detailedAddress);
+        int hits = 0;
+        int score = 0;
+        for (final String trigram : query) {
+            final var inName = name.contains(trigram);
+            final var inAddress = address.contains(trigram);
+            if (inName || inAddress) {
+                hits++;
+                score += (inName ? NAME_WEIGHT : 0) + (inAddress ? ADDRESS_WEIGHT : 0);
+            }
+        }
+        return hits >= requiredHits(query.size()) ? score : 0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.org.Traini8.pojo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents the state of an asynchronous registration request, as returned
+ * when it is accepted and by its status endpoint. Items still waiting in the
+ * write-behind queue are reported as {@link BulkRegistrationStatus#PENDING};
+ * the others carry the same outcomes as a bulk registration.
+ */
+public class RegistrationRequestStatus extends BulkRegistrationResponse {
+
+    private final String id; // Identifier of the request, used in its status URL
+    private final LocalDateTime submittedOn; // When the request was accepted
+
+    /**
+     * Constructs a registration request status.
+     *
+     * @param id          the identifier of the request.
+     * @param submittedOn when the request was accepted.
+     * @param results     the per-item outcomes so far, in request order.
+     */
+    public RegistrationRequestStatus(final String id, final LocalDateTime submittedOn,
+            final List<BulkRegistrationResult> results) {
+        super(results);
+        this.id = id;
+        this.submittedOn = submittedOn;
+    }
+
+    /**
+     * Gets the identifier of the request.
+     *
+     * @return The request identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of items not yet written.
+     *
+     * @return The count of {@link BulkRegistrationStatus#PENDING} items.
+     */
+    public long getPending() {
+        return getResults().stream().filter(result -> result.getStatus() == BulkRegistrationStatus.PENDING).count();
+    }
+
+    /**
+     * Gets when the request was accepted.
+     *
+     * @return The submission time.
+     */
+    public LocalDateTime getSubmittedOn() {
+        return submittedOn;
+    }
+
+    /**
+     * Tells whether every item has its final outcome.
+     *
+     * @return true once no item is pending.
+     */
+    public boolean isCompleted() {
+        return getPending() == 0;
+    }
+}
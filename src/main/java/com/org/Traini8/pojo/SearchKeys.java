@@ -0,0 +1,30 @@
+package com.org.Traini8.pojo;
+
+import java.util.Locale;
+
+/**
+ * Normalization rules for the indexed search-key columns of
+ * {@link TrainingCentre} and {@link Address}. The same rules are applied when a
+ * centre is written and when a search value is received, so that exact and
+ * prefix matches can compare plain column values and use their indexes instead
+ * of wrapping the column in {@code LOWER(...)}.
+ */
+public final class SearchKeys {
+
+    private SearchKeys() {
+    }
+
+    /**
+     * Normalizes a free-text value into its search-key form: surrounding
+     * whitespace is removed and the value is lowercased.
+     *
+     * @param value the value to normalize; may be null.
+     * @return the normalized value, or null if the value is null or blank.
+     */
+    public static String normalize(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,54 @@
+package com.org.Traini8.pojo;
+
+import java.util.Locale;
+
+/**
+ * Describes how text filters of a training center search are matched against
+ * stored values. {@link #EXACT} and {@link #PREFIX} are served by the indexed
+ * search-key columns; {@link #CONTAINS} has to scan and is only used when a
+ * client asks for it explicitly.
+ */
+public enum SearchMatchMode {
+
+    /** The stored value must equal the filter value. */
+    EXACT,
+
+    /** The stored value must start with the filter value. This is the default. */
+    PREFIX,
+
+    /** The stored value must contain the filter value anywhere; not index-assisted. */
+    CONTAINS;
+
+    /**
+     * Applies a normalized filter value to a normalized stored value, with the
+     * same semantics as the database search.
+     *
+     * @param filter the filter value.
+     * @param value  the stored value; may be null.
+     * @return true if the stored value matches the filter in this mode.
+     */
+    public boolean matches(final String filter, final String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (this) {
+        case EXACT -> value.equals(filter);
+        case PREFIX -> value.startsWith(filter);
+        case CONTAINS -> value.contains(filter);
+        };
+    }
+
+    /**
+     * Parses a match mode from a request parameter, ignoring case.
+     *
+     * @param value the parameter value; may be null or blank.
+     * @return the matching mode, or {@link #PREFIX} if no value was given.
+     * @throws IllegalArgumentException if the value names no known mode.
+     */
+    public static SearchMatchMode fromParameter(final String value) {
+        if (value == null || value.isBlank()) {
+            return PREFIX;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
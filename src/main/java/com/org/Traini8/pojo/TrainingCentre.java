@@ -5,14 +5,27 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Min;
@@ -25,10 +38,40 @@ import jakarta.validation.constraints.Size;
 /**
  * Represents a training center entity within the application. This class is
  * mapped to the "TrainingCentre" table in the database.
+ *
+ * Text columns that are searchable have a normalized shadow column (suffix
+ * {@code Key}) that is maintained on every write and indexed, so exact and
+ * prefix searches never have to apply functions to the stored column.
+ *
+ * The center code is assigned by the client, so the entity implements
+ * {@link Persistable} to tell Spring Data whether an instance is new. A
+ * centre built from a request is new and is inserted with {@code persist}
+ * directly; without this, {@code save()} would {@code merge} and SELECT the
+ * row (and its courses) before every INSERT.
+ *
+ * The entity and its courses are kept in second-level cache regions.
+ * Registration only adds rows with new ids, which leaves every cached centre
+ * valid. The only update is the search-key backfill, a bulk UPDATE after which
+ * Hibernate evicts the regions, so the nonstrict read-write strategy is enough.
  */
 @Entity
-@Table(name = "TrainingCentre")
-public class TrainingCentre {
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = TrainingCentre.CACHE_REGION)
+@Table(name = "TrainingCentre", indexes = {
+        @Index(name = "idx_training_centre_name_key", columnList = "centerNameKey"),
+        @Index(name = "idx_training_centre_email_key", columnList = "contactEmailKey"),
+        @Index(name = "idx_training_centre_phone", columnList = "contactPhone"),
+        @Index(name = "idx_training_centre_state_city_key", columnList = "stateKey, cityKey"),
+        @Index(name = "idx_training_centre_city_key", columnList = "cityKey"),
+        @Index(name = "idx_training_centre_pincode", columnList = "pincode"),
+        @Index(name = "idx_training_centre_created_on", columnList = "createdOn") })
+public class TrainingCentre implements Persistable<String> {
+
+    /** Second-level cache region of the entity. */
+    public static final String CACHE_REGION = "traini8-centre";
+
+    /** Second-level cache region of {@code coursesOffered}. */
+    public static final String COURSES_CACHE_REGION = "traini8-centre-courses";
 
     @Id
     @Column(name = "centerCode", nullable = false, length = 12)
@@ -52,6 +95,7 @@ public class TrainingCentre {
     private Integer studentCapacity; // Maximum number of students the center can accommodate
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = TrainingCentre.COURSES_CACHE_REGION)
     @CollectionTable(name = "courses_offered", joinColumns = @JoinColumn(name = "centerCode"))
     @Column(name = "course")
     @NotEmpty(message = "At least one course must be offered") // At least one course should be offered
@@ -69,6 +113,64 @@ public class TrainingCentre {
     @Pattern(regexp = "^\\+?[1-9]\\d{1,14}$", message = "Invalid contact phone format")
     private String contactPhone; // Phone number of the center
 
+    @Column(name = "centerNameKey", length = 40)
+    @JsonIgnore
+    private String centerNameKey; // Normalized center name, maintained on write for indexed search
+
+    @Column(name = "contactEmailKey")
+    @JsonIgnore
+    private String contactEmailKey; // Normalized contact email, maintained on write for indexed search
+
+    @Transient
+    private boolean isNew = true; // True until the entity has been persisted or loaded
+
+    /**
+     * Recomputes the normalized search-key columns from the current field values.
+     * Runs automatically before the entity is inserted or updated through JPA;
+     * write paths that bypass JPA must call it themselves.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeSearchKeys() {
+        this.centerNameKey = SearchKeys.normalize(centerName);
+        this.contactEmailKey = SearchKeys.normalize(contactEmail);
+        if (address != null) {
+            address.normalizeSearchKeys();
+        }
+    }
+
+    /**
+     * Marks the entity as no longer new once it has been stored or read from the
+     * database.
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * Returns the identifier of the training center, which is its center code.
+     *
+     * @return The center code.
+     */
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return centerCode;
+    }
+
+    /**
+     * Returns whether this training center has not been stored yet.
+     *
+     * @return true if the entity was neither persisted nor loaded.
+     */
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
     // Getters and setters with detailed comments
 
     /**
@@ -98,6 +200,15 @@ public class TrainingCentre {
         return centerName;
     }
 
+    /**
+     * Gets the normalized center name used for indexed search.
+     *
+     * @return The normalized center name, or null if not yet computed.
+     */
+    public String getCenterNameKey() {
+        return centerNameKey;
+    }
+
     /**
      * Gets the email address of the training center.
      *
@@ -107,6 +218,15 @@ public class TrainingCentre {
         return contactEmail;
     }
 
+    /**
+     * Gets the normalized email address used for indexed search.
+     *
+     * @return The normalized email address, or null if not set.
+     */
+    public String getContactEmailKey() {
+        return contactEmailKey;
+    }
+
     /**
      * Gets the contact phone number of the training center.
      *
@@ -135,6 +255,16 @@ public class TrainingCentre {
                 : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdOn), ZoneId.systemDefault());
     }
 
+    /**
+     * Gets the timestamp when the training center was created, as stored.
+     *
+     * @return The creation time in epoch milliseconds, or null if not set.
+     */
+    @JsonIgnore
+    public Long getCreatedOnEpochMilli() {
+        return createdOn;
+    }
+
     /**
      * Gets the maximum number of students the training center can accommodate.
      *
@@ -207,6 +337,15 @@ public class TrainingCentre {
         this.createdOn = createdOn == null ? null : createdOn.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
+    /**
+     * Sets the timestamp when the training center was created, as stored.
+     *
+     * @param createdOn The creation time in epoch milliseconds; may be null.
+     */
+    public void setCreatedOnEpochMilli(final Long createdOn) {
+        this.createdOn = createdOn;
+    }
+
     /**
      * Sets the maximum number of students the training center can accommodate.
      *
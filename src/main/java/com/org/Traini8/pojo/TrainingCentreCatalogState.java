@@ -0,0 +1,13 @@
+package com.org.Traini8.pojo;
+
+/**
+ * Summary of the stored catalog that changes whenever a centre is stored,
+ * by any instance. Centres are never updated or deleted, so an unchanged
+ * state means no centre was added.
+ *
+ * @param count           the number of stored centres.
+ * @param latestCreatedOn the latest creation time in epoch milliseconds, or
+ *                        null if no centre is stored.
+ */
+public record TrainingCentreCatalogState(long count, Long latestCreatedOn) {
+}
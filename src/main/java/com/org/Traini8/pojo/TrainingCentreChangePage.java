@@ -0,0 +1,59 @@
+package com.org.Traini8.pojo;
+
+import java.util.List;
+
+/**
+ * Represents one bounded page of the change feed: training centers registered
+ * after the client's last position, oldest first. Unlike a search page, the
+ * cursor is returned on every page, including an empty one, so a sync job can
+ * store it and poll again later from where it stopped.
+ */
+public class TrainingCentreChangePage {
+
+    private final List<TrainingCentreView> items; // Centers on this page, ordered by creation time, then center code
+    private final String nextCursor; // Opaque cursor of the last center received; never null
+    private final boolean hasMore; // Whether more settled changes can be fetched right away
+
+    /**
+     * Constructs a change feed page.
+     *
+     * @param items      the training centers on this page; must not be null.
+     * @param nextCursor the opaque cursor to continue the feed from.
+     * @param hasMore    whether the next page can be requested immediately.
+     */
+    public TrainingCentreChangePage(final List<TrainingCentreView> items, final String nextCursor,
+            final boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    /**
+     * Gets the training centers on this page.
+     *
+     * @return The centers on this page, ordered by creation time, then center
+     *         code.
+     */
+    public List<TrainingCentreView> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the cursor that continues the feed after this page.
+     *
+     * @return The opaque cursor; pass it back as {@code cursor}.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Tells whether more changes are waiting. If false, the client has caught
+     * up and should poll again later with {@link #getNextCursor()}.
+     *
+     * @return true if the next page can be requested immediately.
+     */
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
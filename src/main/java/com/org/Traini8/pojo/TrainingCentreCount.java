@@ -0,0 +1,29 @@
+package com.org.Traini8.pojo;
+
+/**
+ * Represents the number of training centers matching a search, as returned by
+ * the count endpoint. Lets clients size a result set without paging through
+ * it.
+ */
+public class TrainingCentreCount {
+
+    private final long count; // Number of training centers matching the filters
+
+    /**
+     * Constructs a count result.
+     *
+     * @param count the number of matching training centers.
+     */
+    public TrainingCentreCount(final long count) {
+        this.count = count;
+    }
+
+    /**
+     * Gets the number of matching training centers.
+     *
+     * @return The number of training centers matching the filters.
+     */
+    public long getCount() {
+        return count;
+    }
+}
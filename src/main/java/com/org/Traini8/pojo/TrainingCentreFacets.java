@@ -0,0 +1,146 @@
+package com.org.Traini8.pojo;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents aggregate counts over the training centers matching a search, as
+ * returned by the facets endpoint. States, cities and courses are keyed by
+ * their normalized form, the same form the search filters accept, and are
+ * listed from the most to the least common. Capacity buckets are listed in
+ * ascending order, including empty ones.
+ */
+public class TrainingCentreFacets {
+
+    /** Name of the state facet. */
+    public static final String STATES = "states";
+
+    /** Name of the city facet. */
+    public static final String CITIES = "cities";
+
+    /** Name of the course facet. */
+    public static final String COURSES = "courses";
+
+    /** Name of the capacity bucket facet. */
+    public static final String CAPACITY = "capacity";
+
+    /** Inclusive lower bounds of the capacity buckets, in ascending order. */
+    public static final List<Integer> CAPACITY_BUCKET_BOUNDS = List.of(0, 50, 100, 250, 500, 1000);
+
+    private final long total; // Number of training centers matching the filters
+    private final Map<String, Long> states; // Matching centers per normalized state
+    private final Map<String, Long> cities; // Matching centers per normalized city
+    private final Map<String, Long> courses; // Matching centers per normalized course
+    private final Map<String, Long> capacity; // Matching centers per capacity bucket
+
+    /**
+     * Constructs a facets result. The state, city and course counts are
+     * ordered by descending count, then by key.
+     *
+     * @param total    the number of matching training centers.
+     * @param states   the number of matching centers per state.
+     * @param cities   the number of matching centers per city.
+     * @param courses  the number of matching centers per course.
+     * @param capacity the number of matching centers per capacity bucket, keyed
+     *                 by {@link #capacityBucketLabel(int)} of each bucket.
+     */
+    public TrainingCentreFacets(final long total, final Map<String, Long> states, final Map<String, Long> cities,
+            final Map<String, Long> courses, final Map<String, Long> capacity) {
+        this.total = total;
+        this.states = byCount(states);
+        this.cities = byCount(cities);
+        this.courses = byCount(courses);
+        this.capacity = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < CAPACITY_BUCKET_BOUNDS.size(); bucket++) {
+            final var label = capacityBucketLabel(bucket);
+            this.capacity.put(label, capacity.getOrDefault(label, 0L));
+        }
+    }
+
+    /**
+     * Returns the bucket a capacity falls into. Capacities below the first
+     * bound fall into the first bucket.
+     *
+     * @param studentCapacity the capacity of a centre.
+     * @return the bucket index into {@link #CAPACITY_BUCKET_BOUNDS}.
+     */
+    public static int capacityBucket(final int studentCapacity) {
+        int bucket = CAPACITY_BUCKET_BOUNDS.size() - 1;
+        while (bucket > 0 && studentCapacity < CAPACITY_BUCKET_BOUNDS.get(bucket)) {
+            bucket--;
+        }
+        return bucket;
+    }
+
+    /**
+     * Returns the label of a capacity bucket, such as {@code "100-249"} or
+     * {@code "1000+"} for the last one.
+     *
+     * @param bucket the bucket index into {@link #CAPACITY_BUCKET_BOUNDS}.
+     * @return the bucket label.
+     */
+    public static String capacityBucketLabel(final int bucket) {
+        final var from = CAPACITY_BUCKET_BOUNDS.get(bucket);
+        return bucket + 1 < CAPACITY_BUCKET_BOUNDS.size() ? from + "-" + (CAPACITY_BUCKET_BOUNDS.get(bucket + 1) - 1)
+                : from + "+";
+    }
+
+    /**
+     * Gets the number of matching training centers.
+     *
+     * @return The number of training centers matching the filters.
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Gets the number of matching training centers per state.
+     *
+     * @return The counts keyed by normalized state, most common first.
+     */
+    public Map<String, Long> getStates() {
+        return states;
+    }
+
+    /**
+     * Gets the number of matching training centers per city.
+     *
+     * @return The counts keyed by normalized city, most common first.
+     */
+    public Map<String, Long> getCities() {
+        return cities;
+    }
+
+    /**
+     * Gets the number of matching training centers per course.
+     *
+     * @return The counts keyed by normalized course, most common first.
+     */
+    public Map<String, Long> getCourses() {
+        return courses;
+    }
+
+    /**
+     * Gets the number of matching training centers per capacity bucket.
+     *
+     * @return The counts keyed by bucket label, in ascending bucket order.
+     */
+    public Map<String, Long> getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Copies non-zero counts ordered by descending count, then by key.
+     */
+    private static Map<String, Long> byCount(final Map<String, Long> counts) {
+        final Map<String, Long> ordered = new LinkedHashMap<>();
+        counts.entrySet().stream().filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEachOrdered(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+}
@@ -0,0 +1,45 @@
+package com.org.Traini8.pojo;
+
+import java.util.List;
+
+/**
+ * Represents one bounded page of training centers returned by the search
+ * endpoint. Pages are ordered by center code and chained through an opaque
+ * next-page token, so clients can walk the full result set without the server
+ * ever materializing more than one page at a time.
+ */
+public class TrainingCentrePage {
+
+    private final List<TrainingCentreView> items; // Training centers on this page, ordered by center code
+    private final String nextPageToken; // Opaque token for the next page, null on the last page
+
+    /**
+     * Constructs a page with the given items and continuation token.
+     *
+     * @param items         the training centers on this page; must not be null.
+     * @param nextPageToken the opaque token to request the following page, or
+     *                      null if this is the last page.
+     */
+    public TrainingCentrePage(final List<TrainingCentreView> items, final String nextPageToken) {
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Gets the training centers on this page.
+     *
+     * @return The training centers on this page, ordered by center code.
+     */
+    public List<TrainingCentreView> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the token that requests the next page.
+     *
+     * @return The opaque next-page token, or null if there are no more results.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+}
@@ -0,0 +1,229 @@
+package com.org.Traini8.pojo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable set of filters for a training center search. Values are
+ * normalized on construction (trimmed, blank treated as absent, text keys
+ * lowercased the same way as the stored search-key columns, courses
+ * de-duplicated ignoring case and sorted), so two searches that mean the
+ * same thing produce equal criteria.
+ *
+ * @param centerCode   Optional center code filter, uppercased.
+ * @param centerName   Optional center name filter, normalized.
+ * @param minCapacity  Optional minimum student capacity.
+ * @param maxCapacity  Optional maximum student capacity.
+ * @param contactEmail Optional contact email filter, normalized.
+ * @param contactPhone Optional contact phone filter, trimmed.
+ * @param city         Optional city filter, normalized.
+ * @param state        Optional state filter, normalized.
+ * @param pincode      Optional exact pincode, trimmed.
+ * @param courses      Optional courses; centers offering any (or, with
+ *                     {@link CourseMatchMode#ALL}, all) of them match. Null
+ *                     when not filtering by course.
+ * @param matchMode    How the text filters are matched; never null.
+ * @param courseMatch  How several courses are combined; never null.
+ * @param text         Optional typo-tolerant text query over the center name
+ *                     and detailed address, normalized; see {@link FuzzyText}.
+ *                     Results of a text search are ranked by relevance.
+ */
+public record TrainingCentreSearchCriteria(String centerCode, String centerName, Integer minCapacity,
+        Integer maxCapacity, String contactEmail, String contactPhone, String city, String state, String pincode,
+        List<String> courses, SearchMatchMode matchMode, CourseMatchMode courseMatch, String text) {
+
+    /**
+     * Request parameter names of the search filters, in a fixed order. Used to
+     * describe which filters a search applied, for example as a metric tag.
+     */
+    public static final List<String> FILTER_NAMES = List.of("centerCode", "centerName", "minCapacity",
+            "maxCapacity", "contactEmail", "contactPhone", "city", "state", "pincode", "courses", "q");
+
+    /** Value of {@link #appliedFilters()} when no filter is present. */
+    public static final String NO_FILTERS = "none";
+
+    /**
+     * Normalizes the supplied filter values.
+     */
+    public TrainingCentreSearchCriteria {
+        centerCode = centerCode == null || centerCode.isBlank() ? null : centerCode.trim().toUpperCase(Locale.ROOT);
+        centerName = SearchKeys.normalize(centerName);
+        contactEmail = SearchKeys.normalize(contactEmail);
+        contactPhone = contactPhone == null || contactPhone.isBlank() ? null : contactPhone.trim();
+        city = SearchKeys.normalize(city);
+        state = SearchKeys.normalize(state);
+        pincode = pincode == null || pincode.isBlank() ? null : pincode.trim();
+        if (courses != null) {
+            final Set<String> courseKeys = new HashSet<>(); // Courses match case-insensitively, so "java" repeats "Java"
+            courses = courses.stream().filter(course -> course != null && !course.isBlank()).map(String::trim)
+                    .sorted().filter(course -> courseKeys.add(SearchKeys.normalize(course))).toList();
+        }
+        if (courses != null && courses.isEmpty()) {
+            courses = null;
+        }
+        matchMode = matchMode == null ? SearchMatchMode.PREFIX : matchMode;
+        courseMatch = courseMatch == null || courses == null || courses.size() == 1 ? CourseMatchMode.ANY
+                : courseMatch;
+        text = SearchKeys.normalize(text);
+    }
+
+    /**
+     * Creates criteria whose courses match if a centre offers any of them.
+     *
+     * @param centerCode   Optional center code filter.
+     * @param centerName   Optional center name filter.
+     * @param minCapacity  Optional minimum student capacity.
+     * @param maxCapacity  Optional maximum student capacity.
+     * @param contactEmail Optional contact email filter.
+     * @param contactPhone Optional contact phone filter.
+     * @param city         Optional city filter.
+     * @param state        Optional state filter.
+     * @param pincode      Optional exact pincode.
+     * @param courses      Optional courses.
+     * @param matchMode    How the text filters are matched.
+     */
+    public TrainingCentreSearchCriteria(final String centerCode, final String centerName, final Integer minCapacity,
+            final Integer maxCapacity, final String contactEmail, final String contactPhone, final String city,
+            final String state, final String pincode, final List<String> courses, final SearchMatchMode matchMode) {
+        this(centerCode, centerName, minCapacity, maxCapacity, contactEmail, contactPhone, city, state, pincode,
+                courses, matchMode, CourseMatchMode.ANY);
+    }
+
+    /**
+     * Creates criteria without a text query.
+     *
+     * @param centerCode   Optional center code filter.
+     * @param centerName   Optional center name filter.
+     * @param minCapacity  Optional minimum student capacity.
+     * @param maxCapacity  Optional maximum student capacity.
+     * @param contactEmail Optional contact email filter.
+     * @param contactPhone Optional contact phone filter.
+     * @param city         Optional city filter.
+     * @param state        Optional state filter.
+     * @param pincode      Optional exact pincode.
+     * @param courses      Optional courses.
+     * @param matchMode    How the text filters are matched.
+     * @param courseMatch  How several courses are combined.
+     */
+    public TrainingCentreSearchCriteria(final String centerCode, final String centerName, final Integer minCapacity,
+            final Integer maxCapacity, final String contactEmail, final String contactPhone, final String city,
+            final String state, final String pincode, final List<String> courses, final SearchMatchMode matchMode,
+            final CourseMatchMode courseMatch) {
+        this(centerCode, centerName, minCapacity, maxCapacity, contactEmail, contactPhone, city, state, pincode,
+                courses, matchMode, courseMatch, null);
+    }
+
+    /**
+     * Evaluates these criteria against a single training center in memory, with
+     * the same semantics as the database search. Used to decide precisely which
+     * cached results a newly registered centre could change.
+     *
+     * @param centre the training center to test.
+     * @return true if the centre would be part of the search results.
+     */
+    public boolean matches(final TrainingCentre centre) {
+        return matches(TrainingCentreView.of(centre));
+    }
+
+    /**
+     * Evaluates these criteria against a single training center view; see
+     * {@link #matches(TrainingCentre)}.
+     *
+     * @param centre the training center to test.
+     * @return true if the centre would be part of the search results.
+     */
+    public boolean matches(final TrainingCentreView centre) {
+        final var address = centre.address();
+        final var capacity = centre.studentCapacity();
+        return matchesText(centerCode, centre.centerCode() == null ? null
+                : centre.centerCode().toUpperCase(Locale.ROOT))
+                && matchesText(centerName, SearchKeys.normalize(centre.centerName()))
+                && matchesText(contactEmail, SearchKeys.normalize(centre.contactEmail()))
+                && matchesText(contactPhone, centre.contactPhone())
+                && matchesText(city, address == null ? null : SearchKeys.normalize(address.city()))
+                && matchesText(state, address == null ? null : SearchKeys.normalize(address.state()))
+                && (pincode == null || address != null && pincode.equals(address.pincode()))
+                && (minCapacity == null || capacity != null && capacity >= minCapacity)
+                && (maxCapacity == null || capacity != null && capacity <= maxCapacity)
+                && matchesCourses(centre.coursesOffered())
+                && (text == null || FuzzyText.score(FuzzyText.trigrams(text), centre.centerName(),
+                        address == null ? null : address.detailedAddress()) > 0);
+    }
+
+    /**
+     * Returns whether a text query is present.
+     *
+     * @return true if results are ranked by relevance to {@link #text()}.
+     */
+    public boolean hasText() {
+        return text != null;
+    }
+
+    /**
+     * Returns whether a course filter is present.
+     *
+     * @return true if results must offer at least one of {@link #courses()}.
+     */
+    public boolean hasCourses() {
+        return courses != null;
+    }
+
+    /**
+     * Lists the filters that are present, by their {@link #FILTER_NAMES} and in
+     * that fixed order.
+     *
+     * @return the names of the present filters; empty if none is present.
+     */
+    public List<String> presentFilters() {
+        final Object[] values = { centerCode, centerName, minCapacity, maxCapacity, contactEmail, contactPhone, city,
+                state, pincode, courses, text };
+        final List<String> present = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                present.add(FILTER_NAMES.get(i));
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Describes which filters are present, as their {@link #FILTER_NAMES}
+     * joined with commas in that fixed order. The result only depends on
+     * which filters are set, never on their values, so it is safe to use as a
+     * low-cardinality metric tag.
+     *
+     * @return the applied filter names, or {@value #NO_FILTERS}.
+     */
+    public String appliedFilters() {
+        final var present = presentFilters();
+        return present.isEmpty() ? NO_FILTERS : String.join(",", present);
+    }
+
+    /**
+     * Applies the course filter to the courses of a centre. Course names are
+     * compared ignoring case, as the database collation does.
+     */
+    private boolean matchesCourses(final List<String> offered) {
+        if (courses == null) {
+            return true;
+        }
+        if (offered == null) {
+            return false;
+        }
+        final var offeredKeys = offered.stream().map(SearchKeys::normalize).toList();
+        final var wanted = courses.stream().map(SearchKeys::normalize);
+        return courseMatch == CourseMatchMode.ALL ? wanted.allMatch(offeredKeys::contains)
+                : wanted.anyMatch(offeredKeys::contains);
+    }
+
+    /**
+     * Applies one text filter to a normalized stored value according to the match
+     * mode.
+     */
+    private boolean matchesText(final String filter, final String value) {
+        return filter == null || matchMode.matches(filter, value);
+    }
+}
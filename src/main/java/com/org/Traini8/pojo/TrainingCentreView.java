@@ -0,0 +1,65 @@
+package com.org.Traini8.pojo;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Read-only projection of a {@link TrainingCentre} used on the read paths.
+ * Instances are built straight from query rows, so no entity is registered in
+ * a persistence context, no dirty-checking snapshot is taken and no lazy
+ * proxies are created. It serializes to the same JSON as the entity.
+ *
+ * The creation time is kept in its stored epoch form and only converted to a
+ * {@link LocalDateTime} when the view is serialized.
+ *
+ * @param centerCode          the center code.
+ * @param centerName          the center name.
+ * @param address             the address.
+ * @param studentCapacity     the maximum number of students.
+ * @param coursesOffered      the courses offered; never null.
+ * @param createdOnEpochMilli the creation time in epoch milliseconds; may be
+ *                            null.
+ * @param contactEmail        the contact email; may be null.
+ * @param contactPhone        the contact phone number.
+ */
+@JsonPropertyOrder({ "centerCode", "centerName", "address", "studentCapacity", "coursesOffered", "createdOn",
+        "contactEmail", "contactPhone" })
+public record TrainingCentreView(String centerCode, String centerName, AddressView address, Integer studentCapacity,
+        List<String> coursesOffered, @JsonIgnore Long createdOnEpochMilli, String contactEmail,
+        String contactPhone) {
+
+    /**
+     * Creates a view of a training center entity, for example one that has
+     * just been registered.
+     *
+     * @param centre the training center.
+     * @return the view of the centre.
+     */
+    public static TrainingCentreView of(final TrainingCentre centre) {
+        final var address = centre.getAddress();
+        return new TrainingCentreView(centre.getCenterCode(), centre.getCenterName(),
+                address == null ? null
+                        : new AddressView(address.getDetailedAddress(), address.getCity(), address.getState(),
+                                address.getPincode()),
+                centre.getStudentCapacity(),
+                centre.getCoursesOffered() == null ? List.of() : List.copyOf(centre.getCoursesOffered()),
+                centre.getCreatedOnEpochMilli(), centre.getContactEmail(), centre.getContactPhone());
+    }
+
+    /**
+     * Gets the timestamp when the training center was created.
+     *
+     * @return The creation time in the system time zone, or null if not set.
+     */
+    @JsonProperty("createdOn")
+    public LocalDateTime createdOn() {
+        return createdOnEpochMilli == null ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(createdOnEpochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,93 @@
+package com.org.Traini8.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.org.Traini8.TrainingCentreFixtures;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+
+/**
+ * Verifies asynchronous registration: a request is acknowledged with 202 and
+ * a status URL, its valid items are written by the background writers, and a
+ * retry with the same idempotency key registers nothing twice.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-async;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TrainingCentreAsyncRegistrationTests {
+
+    private static final String REGISTRATIONS = "/api/training-centers/registrations";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void queuedCentresAreWrittenAndRetriesAreIdempotent() throws Exception {
+        final var body = body(List.of("ASYNC0000001", "ASYNC0000002", "bad"));
+        final var accepted = mockMvc.perform(post(REGISTRATIONS).contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "onboarding-1").content(body)).andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.results[2].status").value("INVALID")).andReturn().getResponse();
+        final String id = JsonPath.read(accepted.getContentAsString(), "$.id");
+        final var location = accepted.getHeader(HttpHeaders.LOCATION);
+        assertTrue(location.endsWith(REGISTRATIONS + "/" + id));
+
+        final var statusUrl = REGISTRATIONS + "/" + id;
+        for (int attempt = 0; attempt < 100; attempt++) {
+            final var status = mockMvc.perform(get(statusUrl)).andExpect(status().isOk()).andReturn().getResponse();
+            if (JsonPath.<Boolean>read(status.getContentAsString(), "$.completed")) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        mockMvc.perform(get(statusUrl)).andExpect(jsonPath("$.completed").value(true))
+                .andExpect(jsonPath("$.created").value(2)).andExpect(jsonPath("$.invalid").value(1));
+        assertEquals(2, trainingCenterRepository.findExistingCenterCodes(
+                List.of("ASYNC0000001", "ASYNC0000002")).size());
+
+        mockMvc.perform(post(REGISTRATIONS).contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "onboarding-1").content(body)).andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(id)).andExpect(jsonPath("$.created").value(2));
+        mockMvc.perform(post(REGISTRATIONS).contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "onboarding-1").content(body(List.of("ASYNC0000003"))))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(get(REGISTRATIONS + "/unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void reusedKeyIsRejectedEvenWhenTheCodesHaveTheSameListHash() throws Exception {
+        final var first = List.of("ASYNC0000011", "ASYNC000000P");
+        final var second = List.of("ASYNC0000012", "ASYNC0000001");
+        assertEquals(first.hashCode(), second.hashCode());
+
+        mockMvc.perform(post(REGISTRATIONS).contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "colliding-1").content(body(first))).andExpect(status().isAccepted());
+        mockMvc.perform(post(REGISTRATIONS).contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "colliding-1").content(body(second)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    private String body(final List<String> centerCodes) throws Exception {
+        return objectMapper.writeValueAsString(centerCodes.stream().map(TrainingCentreFixtures::centre).toList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.org.Traini8.Controller;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Verifies bulk registration: every item gets a result in request order,
+ * invalid items and repeated or already registered codes are reported rather
+ * than failing the batch, and valid centres are stored with their courses
+ * across several chunks.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-bulk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.registration.batch-size=2", "traini8.registration.max-bulk-size=6" })
+@AutoConfigureMockMvc
+class TrainingCentreBulkRegistrationTests {
+
+    private static final String BULK = "/api/training-centers/bulk";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void eachItemIsReportedAndValidCentresAreStored() throws Exception {
+        registrationService.saveTrainingCentre(centre("BULK00000004"));
+        final var centres = List.of(centre("BULK00000001"), centre("bad"), centre("BULK00000002"), centre("BULK00000001"),
+                centre("BULK00000004"), centre("BULK00000003"));
+
+        final var response = mockMvc.perform(post(BULK).contentType(MediaType.APPLICATION_JSON).content(json(centres)))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.created").value(3))
+                .andExpect(jsonPath("$.invalid").value(1)).andExpect(jsonPath("$.duplicate").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[1].errors.centerCode").exists())
+                .andExpect(jsonPath("$.results[3].message").value("Center code appears earlier in the request"))
+                .andExpect(jsonPath("$.results[4].message").value("Center code is already registered")).andReturn()
+                .getResponse().getContentAsString();
+        assertEquals(List.of("CREATED", "INVALID", "CREATED", "DUPLICATE", "DUPLICATE", "CREATED"),
+                JsonPath.read(response, "$.results[*].status"));
+
+        assertEquals(4, trainingCenterRepository.findExistingCenterCodes(
+                List.of("BULK00000001", "BULK00000002", "BULK00000003", "BULK00000004")).size());
+        transactionTemplate.executeWithoutResult(status -> assertEquals(List.of("Java"),
+                trainingCenterRepository.findById("BULK00000003").orElseThrow().getCoursesOffered()));
+    }
+
+    @Test
+    void emptyAndOversizedBatchesAreRejected() throws Exception {
+        mockMvc.perform(post(BULK).contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+
+        final var oversized = Collections.nCopies(7, centre("BULK00000009"));
+        mockMvc.perform(post(BULK).contentType(MediaType.APPLICATION_JSON).content(json(oversized)))
+                .andExpect(status().isBadRequest());
+        assertEquals(List.of(), trainingCenterRepository.findExistingCenterCodes(List.of("BULK00000009")));
+    }
+
+    private String json(final List<TrainingCentre> centres) throws Exception {
+        return objectMapper.writeValueAsString(centres);
+    }
+}
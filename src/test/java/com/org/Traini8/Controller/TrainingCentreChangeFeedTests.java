@@ -0,0 +1,86 @@
+package com.org.Traini8.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+import com.org.Traini8.TrainingCentreFixtures;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Verifies the change feed: centres come in creation order with ties broken by
+ * center code, cursors resume exactly after the last centre, and centres still
+ * within the settle delay are held back. Centres with fixed creation times are
+ * saved through the repository, since registration stamps the current time.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-changes;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.changes.settle-delay=1h" })
+@AutoConfigureMockMvc
+class TrainingCentreChangeFeedTests {
+
+    private static final String CHANGES = "/api/training-centers/changes";
+
+    private static final long BASE = 1_700_000_000_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Test
+    void changesArePagedInCreationOrder() throws Exception {
+        trainingCenterRepository.saveAll(List.of(centre("CHANGES00004", BASE + 2), centre("CHANGES00003", BASE),
+                centre("CHANGES00005", BASE + 1), centre("CHANGES00001", BASE), centre("CHANGES00002", BASE + 2)));
+        registrationService.saveTrainingCentre(centre("CHANGES00006", null)); // Created now, so not settled
+
+        final List<String> fed = new ArrayList<>();
+        String cursor = null;
+        boolean hasMore;
+        do {
+            final var page = mockMvc.perform(get(CHANGES).param("pageSize", "2")
+                    .param("cursor", cursor == null ? "" : cursor)).andExpect(status().isOk()).andReturn()
+                    .getResponse().getContentAsString();
+            fed.addAll(JsonPath.read(page, "$.items[*].centerCode"));
+            cursor = JsonPath.read(page, "$.nextCursor");
+            hasMore = JsonPath.read(page, "$.hasMore");
+        } while (hasMore);
+        assertEquals(List.of("CHANGES00001", "CHANGES00003", "CHANGES00005", "CHANGES00002", "CHANGES00004"), fed);
+
+        final var caughtUp = mockMvc.perform(get(CHANGES).param("cursor", cursor)).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(List.of(), JsonPath.read(caughtUp, "$.items"));
+        assertEquals(cursor, JsonPath.read(caughtUp, "$.nextCursor"));
+
+        final var since = mockMvc.perform(get(CHANGES).param("since", Long.toString(BASE)))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(List.of("CHANGES00005", "CHANGES00002", "CHANGES00004"),
+                JsonPath.read(since, "$.items[*].centerCode"));
+
+        mockMvc.perform(get(CHANGES).param("cursor", cursor).param("since", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(CHANGES).param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
+    private static TrainingCentre centre(final String centerCode, final Long createdOn) {
+        final var centre = TrainingCentreFixtures.centre(centerCode);
+        if (createdOn != null) {
+            centre.setCreatedOnEpochMilli(createdOn);
+        }
+        return centre;
+    }
+}
@@ -0,0 +1,114 @@
+package com.org.Traini8.Controller;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static com.org.Traini8.TrainingCentreFixtures.storeElsewhere;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.Traini8.ServiceImplementations.TrainingCentreCatalogSync;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that the read endpoints answer conditional GETs from the catalog
+ * version: a matching entity tag yields 304 without any SQL, and a
+ * registration changes the tag, as does a centre stored elsewhere once the
+ * catalog sync has run. Also checks that the binary encodings share
+ * the weak tag and vary by {@code Accept}.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-etag;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TrainingCentreConditionalGetTests {
+
+    private static final String SEARCH = "/api/training-centers?city=Pune";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrainingCentreCatalogSync catalogSync;
+
+    @Test
+    void matchingEntityTagIsAnsweredWithoutTheDatabase() throws Exception {
+        register("ETAG00000001");
+        final var etag = mockMvc.perform(get(SEARCH)).andExpect(status().isOk()).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get(SEARCH).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/training-centers/facets").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        register("ETAG00000002");
+        final var response = mockMvc.perform(get(SEARCH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertNotNull(response.getHeader(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void centreStoredElsewhereChangesTheEntityTagAfterTheSync() throws Exception {
+        register("ETAG00000008");
+        final var etag = mockMvc.perform(get(SEARCH)).andExpect(status().isOk()).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        storeElsewhere(jdbcTemplate, centre("ETAG00000009"));
+        mockMvc.perform(get(SEARCH).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+
+        catalogSync.sync();
+        final var response = mockMvc.perform(get(SEARCH).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        assertNotEquals(etag, response.getHeader(HttpHeaders.ETAG));
+        assertTrue(response.getContentAsString().contains("ETAG00000009"));
+    }
+
+    @Test
+    void binaryEncodingsShareTheWeakEntityTag() throws Exception {
+        register("ETAG00000003");
+        final var etag = mockMvc.perform(get(SEARCH).accept(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT)).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertTrue(etag.startsWith("W/"));
+
+        mockMvc.perform(get(SEARCH).accept("application/cbor")).andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        mockMvc.perform(get(SEARCH).accept("application/x-jackson-smile").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()).andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+    }
+
+    private void register(final String centerCode) throws Exception {
+        mockMvc.perform(post("/api/training-centers").contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(centre(centerCode)))).andExpect(status().isOk());
+    }
+}
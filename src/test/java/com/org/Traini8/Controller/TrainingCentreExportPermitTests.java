@@ -0,0 +1,102 @@
+package com.org.Traini8.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.AsyncEvent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.org.Traini8.Service.TrainingCentreExportService;
+
+/**
+ * Verifies that an export's permit is returned when the request is aborted
+ * while its body is still running, and that the body finishing later does not
+ * return it a second time. Exports are capped at one, and the n-th export
+ * blocks until the test opens the n-th gate.
+ */
+@SpringBootTest(properties = "traini8.export.max-concurrent=1")
+@AutoConfigureMockMvc
+class TrainingCentreExportPermitTests {
+
+    private static final String EXPORT = "/api/training-centers/export";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TrainingCentreExportService exportService;
+
+    private final CountDownLatch[] gates = { new CountDownLatch(1), new CountDownLatch(1), new CountDownLatch(1) };
+
+    private final CountDownLatch abortedBodyReturned = new CountDownLatch(1);
+
+    private final AtomicInteger exports = new AtomicInteger();
+
+    @BeforeEach
+    void blockExports() {
+        doAnswer(invocation -> {
+            final var export = exports.getAndIncrement();
+            gates[export].await(10, TimeUnit.SECONDS);
+            if (export == 0) {
+                abortedBodyReturned.countDown();
+            }
+            return null;
+        }).when(exportService).exportNdjson(any());
+    }
+
+    @Test
+    void abortedExportReturnsItsPermitOnce() throws Exception {
+        final var aborted = startExport();
+        mockMvc.perform(get(EXPORT)).andExpect(status().isTooManyRequests());
+
+        abort(aborted);
+        final var next = startExport(); // The aborted export's body is still blocked
+        gates[0].countDown();
+        abortedBodyReturned.await(10, TimeUnit.SECONDS);
+        Thread.sleep(200); // Let the aborted body run its finally block
+        gates[1].countDown();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+
+        startExport(); // The late body of the aborted export must not have freed a second permit
+        mockMvc.perform(get(EXPORT)).andExpect(status().isTooManyRequests());
+        gates[2].countDown();
+    }
+
+    private MvcResult startExport() throws Exception {
+        return mockMvc.perform(get(EXPORT)).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    /**
+     * Notifies the request's async listeners the way a container does when the
+     * client disconnects.
+     */
+    private static void abort(final MvcResult result) throws IOException {
+        final var context = (MockAsyncContext) result.getRequest().getAsyncContext();
+        assertTrue(context != null);
+        for (final var listener : context.getListeners()) {
+            listener.onError(new AsyncEvent(context, new IOException("Broken pipe")));
+        }
+        for (final var listener : context.getListeners()) {
+            listener.onComplete(new AsyncEvent(context));
+        }
+    }
+}
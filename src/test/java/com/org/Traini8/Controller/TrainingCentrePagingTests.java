@@ -0,0 +1,119 @@
+package com.org.Traini8.Controller;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.ServiceImplementations.PageTokenCodec;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Verifies keyset paging of the search endpoint: following
+ * {@code nextPageToken} walks every centre exactly once, the page size is
+ * capped, and bad paging input is answered with 400. Also checks that standard
+ * Spring MVC errors keep their 4xx statuses. Each test registers centres with a
+ * center code prefix of its own and filters by it, since the tests share one
+ * database.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-paging;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.search.default-page-size=2", "traini8.search.max-page-size=3" })
+@AutoConfigureMockMvc
+class TrainingCentrePagingTests {
+
+    private static final String SEARCH = "/api/training-centers";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Test
+    void nextPageTokenWalksEveryPageUntilTheLast() throws Exception {
+        final var codes = register("PA", 7);
+
+        final List<String> paged = new ArrayList<>();
+        final List<Integer> pageSizes = new ArrayList<>();
+        String pageToken = null;
+        do {
+            final var page = mockMvc.perform(get(SEARCH).param("centerCode", "PA").param("pageSize", "2")
+                    .param("pageToken", pageToken == null ? "" : pageToken)).andExpect(status().isOk()).andReturn()
+                    .getResponse().getContentAsString();
+            final List<String> items = JsonPath.read(page, "$.items[*].centerCode");
+            paged.addAll(items);
+            pageSizes.add(items.size());
+            pageToken = JsonPath.read(page, "$.nextPageToken");
+        } while (pageToken != null);
+        assertEquals(codes, paged);
+        assertEquals(List.of(2, 2, 2, 1), pageSizes);
+    }
+
+    @Test
+    void pageSizeIsCappedByTheMaximum() throws Exception {
+        final var codes = register("PB", 4);
+
+        final var page = mockMvc.perform(get(SEARCH).param("centerCode", "PB").param("pageSize", "50"))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        assertEquals(codes.subList(0, 3), JsonPath.read(page, "$.items[*].centerCode"));
+        assertNotNull(JsonPath.read(page, "$.nextPageToken"));
+
+        final var defaultPage = mockMvc.perform(get(SEARCH).param("centerCode", "PB")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(codes.subList(0, 2), JsonPath.read(defaultPage, "$.items[*].centerCode"));
+    }
+
+    @Test
+    void invalidPagingInputIsABadRequest() throws Exception {
+        final var otherVersion = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v0:PC0000000001".getBytes(StandardCharsets.UTF_8));
+        final var rankedToken = PageTokenCodec.encodeRanked(5, "PC0000000001");
+        for (final var pageToken : List.of("not a token!", otherVersion, rankedToken,
+                PageTokenCodec.encode("not-a-center-code"))) {
+            mockMvc.perform(get(SEARCH).param("pageToken", pageToken)).andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+        }
+        for (final var pageSize : List.of("0", "-1")) {
+            mockMvc.perform(get(SEARCH).param("pageSize", pageSize)).andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Page size must be at least 1"));
+        }
+    }
+
+    @Test
+    void springMvcErrorsKeepTheirStatuses() throws Exception {
+        mockMvc.perform(get(SEARCH).param("pageSize", "ten")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(SEARCH).param("minCapacity", "many")).andExpect(status().isBadRequest());
+        mockMvc.perform(post(SEARCH).contentType(MediaType.TEXT_PLAIN).content("PD0000000001"))
+                .andExpect(status().isUnsupportedMediaType());
+        mockMvc.perform(delete(SEARCH)).andExpect(status().isMethodNotAllowed());
+    }
+
+    /**
+     * Registers a series of centres and returns their codes in center code
+     * order.
+     */
+    private List<String> register(final String prefix, final int count) {
+        final var centres = IntStream.rangeClosed(1, count).mapToObj(i -> centre(prefix, i)).toList();
+        centres.forEach(registrationService::saveTrainingCentre);
+        return centres.stream().map(TrainingCentre::getCenterCode).toList();
+    }
+}
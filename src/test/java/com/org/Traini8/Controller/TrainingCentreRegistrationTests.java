@@ -0,0 +1,55 @@
+package com.org.Traini8.Controller;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies single registration: a new centre is inserted without reading its
+ * row first, and a center code that is already registered is answered with
+ * 409 Conflict.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-register;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class TrainingCentreRegistrationTests {
+
+    private static final String REGISTER = "/api/training-centers";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void newCentresAreInsertedWithoutAReadAndDuplicatesConflict() throws Exception {
+        final var body = objectMapper.writeValueAsString(centre("REGISTER0001"));
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post(REGISTER).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.centerCode").value("REGISTER0001"));
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount(), "Expected the centre and course INSERTs only");
+
+        mockMvc.perform(post(REGISTER).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict()).andExpect(jsonPath("$.status").value(409));
+    }
+}
@@ -0,0 +1,88 @@
+package com.org.Traini8.Index;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Verifies that a new index restores the centres of a saved snapshot, replays
+ * the centres created after it from the database, and loads everything from
+ * the database when the snapshot is unreadable. The replay overlap is zero, so
+ * a row changed behind the snapshot's back shows whether it was restored.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-snapshot;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.index.snapshot.path=target/index-snapshot-tests/traini8-index.snapshot",
+        "traini8.index.snapshot.replay-overlap=0s" })
+class TrainingCentreIndexSnapshotTests {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TrainingCentreIndex trainingCentreIndex;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${traini8.index.snapshot.path}")
+    private Path snapshotPath;
+
+    @Test
+    void indexIsRestoredFromTheSnapshotAndReplaysNewerCentres() throws Exception {
+        final List<TrainingCentre> centres = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            centres.add(centre("SN", i));
+        }
+        registrationService.saveTrainingCentres(centres);
+        trainingCentreIndex.saveSnapshot();
+        assertTrue(Files.exists(snapshotPath));
+
+        jdbcTemplate.update("UPDATE training_centre SET center_name = ? WHERE center_code = ?", "Renamed",
+                "SN0000000007");
+        Thread.sleep(5);
+        registrationService.saveTrainingCentre(centre("SN", 50));
+
+        final var restored = newIndex();
+        assertEquals(51, restored.size());
+        final var views = restored.findAllViews().orElseThrow();
+        assertEquals("Centre 7", views.get(7).centerName()); // From the snapshot, not the database
+        assertEquals(trainingCenterRepository.findViewsByCenterCodes(List.of("SN0000000050")),
+                restored.findViews(List.of("SN0000000050")).orElseThrow());
+
+        Files.write(snapshotPath, new byte[] { 1, 2, 3, 4 });
+        assertEquals(trainingCenterRepository.findAllViews(), newIndex().findAllViews().orElseThrow());
+    }
+
+    /**
+     * Creates and loads an index outside the application context, as at the
+     * next start.
+     */
+    private TrainingCentreIndex newIndex() {
+        final var index = applicationContext.getAutowireCapableBeanFactory().createBean(TrainingCentreIndex.class);
+        index.load();
+        assertTrue(index.isReady());
+        return index;
+    }
+}
@@ -0,0 +1,277 @@
+package com.org.Traini8.Index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.Address;
+import com.org.Traini8.pojo.CourseMatchMode;
+import com.org.Traini8.pojo.FuzzyText;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+/**
+ * Verifies that the in-memory index returns exactly the pages the database
+ * search returns, for every filter combination it claims to support. Centres
+ * are registered through the registration service, so the index is fed by the
+ * same events as in production. Also checks that the in-memory catalog returns
+ * the same centres as the database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-index;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TrainingCentreIndexTests {
+
+    private static final int CENTRE_COUNT = 300;
+
+    private static final List<String> COURSES = List.of("Java", "Python", "React", "SQL", "DevOps");
+
+    private static final List<List<String>> LOCATIONS = List.of(List.of("Maharashtra", "Pune"),
+            List.of("Maharashtra", "Mumbai"), List.of("Maharashtra", "Aurangabad"), List.of("Karnataka", "Bengaluru"),
+            List.of("Bihar", "Aurangabad"), List.of("Tamil Nadu", "Chennai"));
+
+    private static final List<String> NAMES = List.of("Sunrise Academy", "Tech Institute", "Code Academy",
+            "Skill Centre", "Learning Hub");
+
+    private static final List<String> STREETS = List.of("MG Road", "Station Road", "Park Street", "Lake View");
+
+    @Autowired
+    private TrainingCentreIndex trainingCentreIndex;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @BeforeAll
+    void registerCentres() {
+        final List<TrainingCentre> centres = new ArrayList<>(CENTRE_COUNT);
+        for (int i = CENTRE_COUNT - 1; i >= 0; i--) { // Out of code order, like live registrations
+            centres.add(centre(i));
+        }
+        registrationService.saveTrainingCentres(centres.subList(0, CENTRE_COUNT / 2));
+        centres.subList(CENTRE_COUNT / 2, CENTRE_COUNT).forEach(registrationService::saveTrainingCentre);
+    }
+
+    @Test
+    void indexIsLoadedWithEveryRegisteredCentre() {
+        assertTrue(trainingCentreIndex.isReady());
+        assertEquals(CENTRE_COUNT, trainingCentreIndex.size());
+    }
+
+    @Test
+    void courseSearchesMatchTheDatabase() {
+        assertSameAsDatabase(criteria(null, CourseMatchMode.ANY));
+        assertSameAsDatabase(criteria(List.of("Java"), CourseMatchMode.ANY));
+        assertSameAsDatabase(criteria(List.of("Java", "SQL"), CourseMatchMode.ANY));
+        assertSameAsDatabase(criteria(List.of("Java", "SQL"), CourseMatchMode.ALL));
+        assertSameAsDatabase(criteria(List.of("Java", "Python", "React"), CourseMatchMode.ALL));
+        assertSameAsDatabase(criteria(List.of("Cobol"), CourseMatchMode.ANY));
+        assertSameAsDatabase(criteria(List.of("Java", "Cobol"), CourseMatchMode.ALL));
+        assertSameAsDatabase(criteria(List.of("java", "Java"), CourseMatchMode.ALL)); // One course, differing in case
+    }
+
+    @Test
+    void locationSearchesMatchTheDatabase() {
+        for (final SearchMatchMode mode : SearchMatchMode.values()) {
+            assertSameAsDatabase(location("Maharashtra", null, null, mode));
+            assertSameAsDatabase(location("ma", null, null, mode));
+            assertSameAsDatabase(location(null, "Aurangabad", null, mode));
+            assertSameAsDatabase(location(null, "BAD", null, mode));
+            assertSameAsDatabase(location("Bihar", "Aurangabad", null, mode));
+            assertSameAsDatabase(location("Maharashtra", "Pune", "411003", mode));
+            assertSameAsDatabase(location(null, null, "411005", mode));
+            assertSameAsDatabase(location("Karnataka", "Pune", null, mode));
+            assertSameAsDatabase(location(null, null, "41100X", mode));
+        }
+        final var withCourses = new TrainingCentreSearchCriteria(null, null, null, null, null, null, "pune",
+                "maharashtra", null, List.of("Java", "SQL"), SearchMatchMode.EXACT, CourseMatchMode.ALL);
+        assertSameAsDatabase(withCourses);
+    }
+
+    @Test
+    void capacitySearchesMatchTheDatabase() {
+        assertSameAsDatabase(capacity(100, null, null));
+        assertSameAsDatabase(capacity(null, 100, null));
+        assertSameAsDatabase(capacity(200, 300, null));
+        assertSameAsDatabase(capacity(215, 215, null));
+        assertSameAsDatabase(capacity(300, 200, null));
+        assertSameAsDatabase(capacity(200, 300, "Karnataka"));
+        assertSameAsDatabase(capacity(0, Integer.MAX_VALUE, "Bihar"));
+        final var withCourses = new TrainingCentreSearchCriteria(null, null, 50, 400, null, null, null, null, null,
+                List.of("Java", "SQL"), null, CourseMatchMode.ALL);
+        assertSameAsDatabase(withCourses);
+    }
+
+    @Test
+    void textSearchesRankByFuzzyScore() {
+        for (final String text : List.of("Acadmy", "tech institue", "station rd", "Sunrise 12", "lake", "zzzz")) {
+            assertRankedAsExpected(text(text, null));
+            assertRankedAsExpected(text(text, "Maharashtra"));
+        }
+    }
+
+    @Test
+    void facetsMatchTheDatabase() {
+        final List<TrainingCentreSearchCriteria> searches = List.of(criteria(null, CourseMatchMode.ANY),
+                criteria(List.of("Java", "SQL"), CourseMatchMode.ALL),
+                location("ma", null, null, SearchMatchMode.CONTAINS), capacity(100, 400, "Maharashtra"),
+                location("Kerala", null, null, SearchMatchMode.EXACT));
+        for (final TrainingCentreSearchCriteria criteria : searches) {
+            final var expected = trainingCenterRepository.findFacets(criteria);
+            final var actual = trainingCentreIndex.facets(criteria).orElseThrow();
+            assertEquals(expected.getTotal(), actual.getTotal(), criteria.toString());
+            assertEquals(List.copyOf(expected.getStates().entrySet()), List.copyOf(actual.getStates().entrySet()));
+            assertEquals(List.copyOf(expected.getCities().entrySet()), List.copyOf(actual.getCities().entrySet()));
+            assertEquals(List.copyOf(expected.getCourses().entrySet()), List.copyOf(actual.getCourses().entrySet()));
+            assertEquals(List.copyOf(expected.getCapacity().entrySet()),
+                    List.copyOf(actual.getCapacity().entrySet()));
+        }
+    }
+
+    @Test
+    void countsMatchTheDatabase() {
+        final List<TrainingCentreSearchCriteria> searches = List.of(criteria(null, CourseMatchMode.ANY),
+                criteria(List.of("Java", "SQL"), CourseMatchMode.ALL),
+                location("Maharashtra", null, null, SearchMatchMode.PREFIX),
+                location(null, "Aurangabad", "411004", SearchMatchMode.EXACT), capacity(200, 300, "Maharashtra"));
+        for (final TrainingCentreSearchCriteria criteria : searches) {
+            assertEquals(trainingCenterRepository.countCenterCodes(criteria),
+                    trainingCentreIndex.count(criteria).orElseThrow(), criteria.toString());
+        }
+    }
+
+    @Test
+    void catalogMatchesTheDatabase() {
+        assertEquals(trainingCenterRepository.findAllViews(), trainingCentreIndex.findAllViews().orElseThrow());
+        final var codes = trainingCentreIndex.findCenterCodes(capacity(200, 300, "Maharashtra"), null, 20)
+                .orElseThrow();
+        assertEquals(trainingCenterRepository.findViewsByCenterCodes(codes),
+                trainingCentreIndex.findViews(codes).orElseThrow());
+        assertFalse(trainingCentreIndex.findViews(List.of("IX0000000000", "NOTINDEXED00")).isPresent());
+    }
+
+    @Test
+    void unsupportedFiltersFallBackToTheDatabase() {
+        final var criteria = new TrainingCentreSearchCriteria(null, "Centre", null, null, null, null, null, null,
+                null, List.of("Java"), SearchMatchMode.CONTAINS);
+        assertFalse(trainingCentreIndex.findCenterCodes(criteria, null, 10).isPresent());
+        assertFalse(trainingCentreIndex.count(criteria).isPresent());
+    }
+
+    /**
+     * Pages through both the index and the database with a small page size and
+     * compares the full result lists.
+     */
+    private void assertSameAsDatabase(final TrainingCentreSearchCriteria criteria) {
+        final List<String> fromIndex = new ArrayList<>();
+        final List<String> fromDatabase = new ArrayList<>();
+        String after = null;
+        do {
+            final var page = trainingCentreIndex.findCenterCodes(criteria, after, 7).orElseThrow();
+            fromIndex.addAll(page);
+            after = page.size() < 7 ? null : page.get(page.size() - 1);
+        } while (after != null);
+        do {
+            final var page = trainingCenterRepository.findCenterCodes(criteria, after, 7);
+            fromDatabase.addAll(page);
+            after = page.size() < 7 ? null : page.get(page.size() - 1);
+        } while (after != null);
+        assertEquals(fromDatabase, fromIndex, criteria.toString());
+    }
+
+    private static TrainingCentreSearchCriteria criteria(final List<String> courses,
+            final CourseMatchMode courseMatch) {
+        return new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null, courses, null,
+                courseMatch);
+    }
+
+    private static TrainingCentreSearchCriteria location(final String state, final String city,
+            final String pincode, final SearchMatchMode mode) {
+        return new TrainingCentreSearchCriteria(null, null, null, null, null, null, city, state, pincode, null, mode);
+    }
+
+    /**
+     * Pages through a text search with a small page size and compares it with
+     * every centre scored by {@link FuzzyText}, highest score first.
+     */
+    private void assertRankedAsExpected(final TrainingCentreSearchCriteria criteria) {
+        final var query = FuzzyText.trigrams(criteria.text());
+        final var expected = trainingCenterRepository.findAllViews().stream()
+                .filter(view -> criteria.state() == null || criteria.state().equalsIgnoreCase(view.address().state()))
+                .map(view -> new ScoredCenterCode(view.centerCode(),
+                        FuzzyText.score(query, view.centerName(), view.address().detailedAddress())))
+                .filter(scored -> scored.score() > 0)
+                .sorted(Comparator.comparingInt(ScoredCenterCode::score).reversed()
+                        .thenComparing(ScoredCenterCode::centerCode))
+                .toList();
+
+        final List<ScoredCenterCode> ranked = new ArrayList<>();
+        ScoredCenterCode last = null;
+        do {
+            final var page = trainingCentreIndex.findRankedCenterCodes(criteria, last == null ? null : last.score(),
+                    last == null ? null : last.centerCode(), 7).orElseThrow();
+            ranked.addAll(page);
+            last = page.size() < 7 ? null : page.get(page.size() - 1);
+        } while (last != null);
+
+        assertEquals(expected, ranked, criteria.toString());
+        assertEquals(expected.size(), trainingCentreIndex.count(criteria).orElseThrow(), criteria.toString());
+    }
+
+    private static TrainingCentreSearchCriteria text(final String text, final String state) {
+        return new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, state, null, null,
+                SearchMatchMode.EXACT, null, text);
+    }
+
+    private static TrainingCentreSearchCriteria capacity(final Integer minCapacity, final Integer maxCapacity,
+            final String state) {
+        return new TrainingCentreSearchCriteria(null, null, minCapacity, maxCapacity, null, null, null, state, null,
+                null, SearchMatchMode.EXACT);
+    }
+
+    private static TrainingCentre centre(final int i) {
+        final var address = new Address();
+        address.setDetailedAddress(i + " " + STREETS.get(i % STREETS.size()));
+        final var location = LOCATIONS.get(i % LOCATIONS.size());
+        address.setCity(location.get(1));
+        address.setState(location.get(0));
+        address.setPincode(String.format("%06d", 411000 + i % 9));
+
+        final List<String> courses = new ArrayList<>();
+        for (int c = 0; c < COURSES.size(); c++) {
+            if ((i >> c & 1) == 1) {
+                courses.add(COURSES.get(c));
+            }
+        }
+        if (courses.isEmpty()) {
+            courses.add("Testing");
+        }
+        if (i % 50 == 1) {
+            courses.add("JAVA "); // Same course again, differently spelled
+        }
+
+        final var centre = new TrainingCentre();
+        centre.setCenterCode(String.format("IX%010d", i * 7919 % 100_000));
+        centre.setCenterName(NAMES.get(i % NAMES.size()) + " " + i);
+        centre.setAddress(address);
+        centre.setStudentCapacity(10 + i % 97 * 5);
+        centre.setCoursesOffered(courses);
+        centre.setContactEmail("centre" + i + "@example.com");
+        centre.setContactPhone("+91987654" + String.format("%04d", i));
+        return centre;
+    }
+}
@@ -0,0 +1,99 @@
+package com.org.Traini8.Repository;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.TrainingCentreView;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Verifies read/write routing with two embedded databases standing in for the
+ * primary and the replica. Replication is simulated by copying the primary
+ * into the replica, so a read that misses a registered centre shows it came
+ * from the replica. The search index is disabled, so reads reach the
+ * database. The change feed must not read from the replica at all.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.datasource.replica.jdbc-url=jdbc:h2:mem:traini8-replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.datasource.replica.username=sa", "traini8.datasource.routing.read-after-write=1s",
+        "traini8.index.enabled=false", "traini8.changes.settle-delay=0s" })
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private TrainingCenterRetreiveService retrieveService;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private Replication replication;
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaUnlessItIsStaleOrDown() throws Exception {
+        registrationService.saveTrainingCentre(centre("REPLICA00001"));
+        assertEquals(List.of("REPLICA00001"), centerCodes()); // Just written: read from the primary
+
+        Thread.sleep(1200);
+        assertEquals(List.of(), centerCodes()); // The replica has not caught up
+        assertEquals(List.of("REPLICA00001"), changedCodes()); // The change feed reads from the primary
+
+        replication.replicate();
+        assertEquals(List.of("REPLICA00001"), centerCodes());
+
+        ((HikariDataSource) replicaDataSource.getTargetDataSource()).close();
+        registrationService.saveTrainingCentre(centre("REPLICA00002"));
+        Thread.sleep(1200);
+        assertEquals(List.of("REPLICA00001", "REPLICA00002"), centerCodes()); // Replica down: read from the primary
+    }
+
+    private List<String> centerCodes() {
+        return retrieveService.findAllTrainingCenters().stream().map(TrainingCentreView::centerCode).toList();
+    }
+
+    private List<String> changedCodes() {
+        return retrieveService.findChanges(null, null, null).getItems().stream().map(TrainingCentreView::centerCode)
+                .toList();
+    }
+
+
+    /**
+     * Copies the primary database into the replica. Runs once when the
+     * context is refreshed, after Hibernate has created the schema and before
+     * anything reads from the replica.
+     */
+    @TestConfiguration
+    static class Replication {
+
+        @Autowired
+        @Qualifier("primaryDataSource")
+        private DataSource primaryDataSource;
+
+        @Autowired
+        private ReplicaDataSource replicaDataSource;
+
+        @EventListener(ContextRefreshedEvent.class)
+        void replicate() {
+            final var replica = new JdbcTemplate(replicaDataSource.getTargetDataSource());
+            new JdbcTemplate(primaryDataSource).queryForList("SCRIPT DROP", String.class).stream()
+                    .filter(statement -> !statement.startsWith("CREATE USER")).forEach(replica::execute);
+        }
+    }
+}
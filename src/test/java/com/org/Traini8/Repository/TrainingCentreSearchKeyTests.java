@@ -0,0 +1,131 @@
+package com.org.Traini8.Repository;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static com.org.Traini8.TrainingCentreFixtures.storeElsewhere;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.SearchKeys;
+import com.org.Traini8.pojo.SearchMatchMode;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Verifies the normalized search-key columns: the backfill builds the same
+ * keys as {@link SearchKeys#normalize}, and exact, prefix and contains
+ * filters match them with LIKE wildcards in the filter value taken literally.
+ * The search index is disabled, so searches reach the database.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-keys;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.index.enabled=false" })
+class TrainingCentreSearchKeyTests {
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private TrainingCenterRetreiveService retrieveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void backfillBuildsTheKeysLikeTheApplication() {
+        final var untrimmed = centre("KEYS00000001");
+        untrimmed.setCenterName("  Backfill ACADEMY ");
+        untrimmed.setContactEmail(" Desk@Example.COM  ");
+        untrimmed.getAddress().setCity(" NAVI Mumbai");
+        final var blankEmail = centre("KEYS00000002");
+        blankEmail.setContactEmail("   ");
+        final var noEmail = centre("KEYS00000003");
+        noEmail.setContactEmail(null);
+        for (final var centre : List.of(untrimmed, blankEmail, noEmail)) {
+            storeElsewhere(jdbcTemplate, centre);
+        }
+        jdbcTemplate.update("UPDATE training_centre SET center_name_key = NULL, contact_email_key = NULL, "
+                + "city_key = NULL, state_key = NULL WHERE center_code LIKE 'KEYS%'");
+
+        assertEquals(3, backfill());
+        assertEquals(0, backfill()); // Blank and missing emails keep a null key without being selected again
+
+        for (final var centre : List.of(untrimmed, blankEmail, noEmail)) {
+            final var address = centre.getAddress();
+            assertEquals(Arrays.asList(SearchKeys.normalize(centre.getCenterName()),
+                    SearchKeys.normalize(centre.getContactEmail()), SearchKeys.normalize(address.getCity()),
+                    SearchKeys.normalize(address.getState())), storedKeys(centre.getCenterCode()));
+        }
+
+        jdbcTemplate.update("UPDATE training_centre SET contact_email_key = NULL WHERE center_code = 'KEYS00000001'");
+        assertEquals(1, backfill()); // A missing email key alone is enough
+        assertEquals("desk@example.com", storedKeys("KEYS00000001").get(1));
+    }
+
+    @Test
+    void textFiltersMatchExactlyByPrefixOrByContainment() {
+        register("MATCH0000001", "Ocelot Lab");
+        register("MATCH0000002", "Ocelot Lab Annex");
+        register("MATCH0000003", "The Ocelot Lab");
+
+        assertEquals(List.of("MATCH0000001"), byName(" ocelot LAB ", SearchMatchMode.EXACT));
+        assertEquals(List.of("MATCH0000001", "MATCH0000002"), byName("Ocelot L", SearchMatchMode.PREFIX));
+        assertEquals(List.of("MATCH0000001", "MATCH0000002", "MATCH0000003"),
+                byName("celot la", SearchMatchMode.CONTAINS));
+    }
+
+    @Test
+    void likeWildcardsInFilterValuesMatchLiterally() {
+        register("WILD00000001", "100% Panda");
+        register("WILD00000002", "1000 Panda");
+        register("WILD00000003", "Panda_Works");
+        register("WILD00000004", "PandaXWorks");
+        register("WILD00000005", "Panda!Works");
+
+        assertEquals(List.of("WILD00000001"), byName("100%", SearchMatchMode.PREFIX));
+        assertEquals(List.of("WILD00000001"), byName("0% pan", SearchMatchMode.CONTAINS));
+        assertEquals(List.of("WILD00000003"), byName("panda_", SearchMatchMode.PREFIX));
+        assertEquals(List.of("WILD00000003"), byName("a_w", SearchMatchMode.CONTAINS));
+        assertEquals(List.of("WILD00000005"), byName("a!w", SearchMatchMode.CONTAINS));
+        assertEquals(List.of(), byName("%", SearchMatchMode.EXACT));
+    }
+
+    private int backfill() {
+        return transactionTemplate.execute(status -> trainingCenterRepository.backfillSearchKeys());
+    }
+
+    private List<String> storedKeys(final String centerCode) {
+        return jdbcTemplate.queryForObject(
+                "SELECT center_name_key, contact_email_key, city_key, state_key FROM training_centre "
+                        + "WHERE center_code = ?",
+                (row, i) -> Arrays.asList(row.getString(1), row.getString(2), row.getString(3), row.getString(4)),
+                centerCode);
+    }
+
+    private void register(final String centerCode, final String centerName) {
+        final var centre = centre(centerCode);
+        centre.setCenterName(centerName);
+        registrationService.saveTrainingCentre(centre);
+    }
+
+    private List<String> byName(final String centerName, final SearchMatchMode matchMode) {
+        final var criteria = new TrainingCentreSearchCriteria(null, centerName, null, null, null, null, null, null,
+                null, null, matchMode);
+        return retrieveService.findByMultipleCriteria(criteria, null, null).getItems().stream()
+                .map(TrainingCentreView::centerCode).toList();
+    }
+}
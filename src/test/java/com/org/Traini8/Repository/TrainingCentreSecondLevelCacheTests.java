@@ -0,0 +1,93 @@
+package com.org.Traini8.Repository;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies the second-level and query caches. Repeated reads are served from
+ * the cache, centres registered through Hibernate or through the JDBC batch
+ * writer are visible to the next search, and the search-key backfill evicts
+ * cached centres. Runs with the production region names and fails to start if
+ * a region is not declared.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-l2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.region_prefix=",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail", "traini8.index.enabled=false" })
+class TrainingCentreSecondLevelCacheTests {
+
+    private static final TrainingCentreSearchCriteria ALL = new TrainingCentreSearchCriteria(null, null, null, null,
+            null, null, null, null, null, null, null);
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void searchesAreCachedAndSeeEveryRegistration() {
+        registrationService.saveTrainingCentres(List.of(centre("CACHE0000001")));
+        assertEquals(List.of("CACHE0000001"), centerCodes());
+        assertEquals(List.of("CACHE0000001"), centerCodes());
+
+        // The query region exists once the first cacheable query has run
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final var search = statistics.getQueryRegionStatistics(TrainingCenterRepositoryCustomImpl.SEARCH_CACHE_REGION);
+        assertEquals(1, search.getHitCount());
+
+        registrationService.saveTrainingCentres(List.of(centre("CACHE0000002"))); // JDBC batch insert
+        assertEquals(List.of("CACHE0000001", "CACHE0000002"), centerCodes());
+
+        registrationService.saveTrainingCentre(centre("CACHE0000003")); // Hibernate insert
+        assertEquals(List.of("CACHE0000001", "CACHE0000002", "CACHE0000003"), centerCodes());
+        assertEquals(1, search.getHitCount());
+
+        for (int i = 0; i < 2; i++) {
+            transactionTemplate.executeWithoutResult(status -> assertEquals(List.of("Java"),
+                    trainingCenterRepository.findById("CACHE0000001").orElseThrow().getCoursesOffered()));
+        }
+        assertEquals(1, statistics.getDomainDataRegionStatistics(TrainingCentre.CACHE_REGION).getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(TrainingCentre.COURSES_CACHE_REGION).getHitCount());
+
+        transactionTemplate.executeWithoutResult(status -> trainingCenterRepository.backfillSearchKeys());
+        transactionTemplate.executeWithoutResult(status -> trainingCenterRepository.findById("CACHE0000001"));
+        assertEquals(1, statistics.getDomainDataRegionStatistics(TrainingCentre.CACHE_REGION).getHitCount(),
+                "The bulk UPDATE of the backfill must evict cached centres");
+
+        final var hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", TrainingCentre.CACHE_REGION, "result", "hit").functionCounter();
+        assertNotNull(hits, "Region statistics are not published as metrics");
+        assertTrue(hits.count() >= 1);
+    }
+
+    private List<String> centerCodes() {
+        return trainingCenterRepository.findCenterCodes(ALL, null, 10);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.org.Traini8.ServiceImplementations;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static com.org.Traini8.TrainingCentreFixtures.storeElsewhere;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Verifies that centres stored without passing through this instance's
+ * registration services, as another instance would store them, are found by
+ * searches once the catalog sync has run, whether the index or the database
+ * answers them. Each test uses
+ * filter values of its own, since the tests share one database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-sync;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class TrainingCentreCatalogSyncTests {
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private TrainingCenterRetreiveService retrieveService;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrainingCentreCatalogSync catalogSync;
+
+    @Test
+    void courseSearchesFindCentresStoredElsewhereAfterTheSync() {
+        final var kotlin = new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null,
+                List.of("Kotlin"), null);
+        registrationService.saveTrainingCentre(withCourse(centre("SYNCCOURSE01"), "Kotlin"));
+        assertEquals(List.of("SYNCCOURSE01"), centerCodes(kotlin)); // Now cached
+
+        storeElsewhere(jdbcTemplate, withCourse(centre("SYNCCOURSE02"), "Kotlin"));
+        assertEquals(List.of("SYNCCOURSE01"), centerCodes(kotlin));
+
+        catalogSync.sync();
+        assertEquals(List.of("SYNCCOURSE01", "SYNCCOURSE02"), centerCodes(kotlin));
+    }
+
+    @Test
+    void locationSearchesAndCountsSeeCentresStoredElsewhereAfterTheSync() {
+        final var goa = new TrainingCentreSearchCriteria(null, null, null, null, null, null, "Panaji", "Goa", null,
+                null, null);
+        registrationService.saveTrainingCentre(inGoa(centre("SYNCPLACE001")));
+        assertEquals(List.of("SYNCPLACE001"), centerCodes(goa));
+        assertEquals(1, retrieveService.countByMultipleCriteria(goa));
+
+        storeElsewhere(jdbcTemplate, inGoa(centre("SYNCPLACE002")));
+        assertEquals(1, retrieveService.countByMultipleCriteria(goa));
+
+        catalogSync.sync();
+        assertEquals(List.of("SYNCPLACE001", "SYNCPLACE002"), centerCodes(goa));
+        assertEquals(2, retrieveService.countByMultipleCriteria(goa));
+    }
+
+    @Test
+    void textSearchesFindCentresStoredElsewhereAfterTheSync() {
+        final var text = new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null, null,
+                null, null, "Quokka Academy");
+        registrationService.saveTrainingCentre(withName(centre("SYNCTEXT0001"), "Quokka Academy"));
+        assertEquals(List.of("SYNCTEXT0001"), centerCodes(text));
+
+        storeElsewhere(jdbcTemplate, withName(centre("SYNCTEXT0002"), "Quokka Academy"));
+        assertEquals(List.of("SYNCTEXT0001"), centerCodes(text)); // Text search is answered only by the index
+
+        catalogSync.sync();
+        assertEquals(List.of("SYNCTEXT0001", "SYNCTEXT0002"), centerCodes(text));
+    }
+
+    @Test
+    void listingIncludesCentresStoredElsewhereAfterTheSync() {
+        storeElsewhere(jdbcTemplate, centre("SYNCLIST0001"));
+        assertFalse(listedCodes().contains("SYNCLIST0001")); // Served from the in-memory catalog
+
+        catalogSync.sync();
+        assertTrue(listedCodes().contains("SYNCLIST0001"));
+        assertEquals(trainingCenterRepository.findAllViews(), retrieveService.findAllTrainingCenters());
+    }
+
+    @Test
+    void databaseSearchesFindCentresStoredElsewhereAfterTheSync() {
+        final var byName = new TrainingCentreSearchCriteria(null, "Synced Centre", null, null, null, null, null, null,
+                null, null, null); // The index cannot answer name filters
+        registrationService.saveTrainingCentre(withName(centre("SYNCNAME0001"), "Synced Centre"));
+        assertEquals(List.of("SYNCNAME0001"), centerCodes(byName)); // Now cached, page and query
+
+        storeElsewhere(jdbcTemplate, withName(centre("SYNCNAME0002"), "Synced Centre"));
+        assertEquals(List.of("SYNCNAME0001"), centerCodes(byName));
+
+        catalogSync.sync();
+        assertEquals(List.of("SYNCNAME0001", "SYNCNAME0002"), centerCodes(byName));
+    }
+
+    private List<String> listedCodes() {
+        return retrieveService.findAllTrainingCenters().stream().map(TrainingCentreView::centerCode).toList();
+    }
+
+    private List<String> centerCodes(final TrainingCentreSearchCriteria criteria) {
+        return retrieveService.findByMultipleCriteria(criteria, null, null).getItems().stream()
+                .map(TrainingCentreView::centerCode).toList();
+    }
+
+    private static TrainingCentre withCourse(final TrainingCentre centre, final String course) {
+        centre.setCoursesOffered(List.of(course));
+        return centre;
+    }
+
+    private static TrainingCentre withName(final TrainingCentre centre, final String centerName) {
+        centre.setCenterName(centerName);
+        return centre;
+    }
+
+    private static TrainingCentre inGoa(final TrainingCentre centre) {
+        centre.getAddress().setCity("Panaji");
+        centre.getAddress().setState("Goa");
+        centre.getAddress().setPincode("403001");
+        return centre;
+    }
+}
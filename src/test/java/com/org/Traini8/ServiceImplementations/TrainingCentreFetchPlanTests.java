@@ -0,0 +1,89 @@
+package com.org.Traini8.ServiceImplementations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.org.Traini8.TrainingCentreFixtures;
+import com.org.Traini8.Repository.TrainingCenterRepository;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.TrainingCentre;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifies that listing and searching training centres loads their courses in
+ * a bounded number of SQL statements rather than one statement per centre.
+ * The in-memory index is disabled so that searches exercise the database.
+ */
+@SpringBootTest(properties = { "traini8.search.max-page-size=1000", "traini8.index.enabled=false" })
+class TrainingCentreFetchPlanTests {
+
+    private static final int CENTRE_COUNT = 1_000;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterRetreiveService trainingCenterRetreiveService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedCentres() {
+        trainingCenterRepository.deleteAllInBatch();
+        final List<TrainingCentre> centres = new ArrayList<>(CENTRE_COUNT);
+        for (int i = 0; i < CENTRE_COUNT; i++) {
+            centres.add(centre(i));
+        }
+        trainingCenterRepository.saveAll(centres);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllLoadsCoursesInOneStatement() throws Exception {
+        final var centres = trainingCenterRetreiveService.findAllTrainingCenters();
+        objectMapper.writeValueAsString(centres); // Touches every coursesOffered collection
+
+        assertEquals(CENTRE_COUNT, centres.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 1,
+                "Expected at most 1 statement, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchLoadsCoursesInTwoStatements() throws Exception {
+        final var criteria = new TrainingCentreSearchCriteria(null, null, null, null, null, null, null, null, null,
+                List.of("Java"), null);
+        final var page = trainingCenterRetreiveService.findByMultipleCriteria(criteria, null, CENTRE_COUNT);
+        objectMapper.writeValueAsString(page);
+
+        assertEquals(CENTRE_COUNT, page.getItems().size());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    private static TrainingCentre centre(final int i) {
+        final var centre = TrainingCentreFixtures.centre("TC", i);
+        centre.setCoursesOffered(List.of("Java", "Course" + (i % 10)));
+        return centre;
+    }
+}
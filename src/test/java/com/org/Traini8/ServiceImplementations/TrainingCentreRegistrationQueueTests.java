@@ -0,0 +1,77 @@
+package com.org.Traini8.ServiceImplementations;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static com.org.Traini8.TrainingCentreFixtures.storeElsewhere;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.org.Traini8.Repository.TrainingCentreBatchWriter;
+import com.org.Traini8.Service.TrainingCentreRegistrationQueue;
+import com.org.Traini8.pojo.BulkRegistrationResult;
+import com.org.Traini8.pojo.BulkRegistrationStatus;
+import com.org.Traini8.pojo.RegistrationRequestStatus;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Verifies that a batch of the write-behind queue that fails is retried
+ * centre by centre, so a center code registered elsewhere between the
+ * duplicate check and the insert is reported as a duplicate while the rest of
+ * the batch is still created.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:traini8-queue;MODE=MySQL;DB_CLOSE_DELAY=-1")
+class TrainingCentreRegistrationQueueTests {
+
+    @Autowired
+    private TrainingCentreRegistrationQueue registrationQueue;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private TrainingCentreBatchWriter trainingCentreBatchWriter;
+
+    @Test
+    void centreRegisteredElsewhereDuringItsBatchIsADuplicate() throws Exception {
+        final var registerElsewhere = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            final List<TrainingCentre> centres = invocation.getArgument(0);
+            if (centres.stream().anyMatch(centre -> centre.getCenterCode().equals("QUEUE0000002"))
+                    && registerElsewhere.getAndSet(false)) {
+                final var registration = new Thread(() -> storeElsewhere(jdbcTemplate, centre("QUEUE0000002")));
+                registration.start();
+                registration.join();
+            }
+            return invocation.callRealMethod();
+        }).when(trainingCentreBatchWriter).insertAll(anyList());
+
+        final var id = registrationQueue
+                .submit(List.of(centre("QUEUE0000001"), centre("QUEUE0000002"), centre("QUEUE0000003")), null)
+                .getId();
+        final var status = awaitCompletion(id);
+        assertEquals(List.of(BulkRegistrationStatus.CREATED, BulkRegistrationStatus.DUPLICATE,
+                BulkRegistrationStatus.CREATED),
+                status.getResults().stream().map(BulkRegistrationResult::getStatus).toList());
+        assertEquals("Center code is already registered", status.getResults().get(1).getMessage());
+    }
+
+    private RegistrationRequestStatus awaitCompletion(final String id) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            final var status = registrationQueue.status(id).orElseThrow();
+            if (status.isCompleted()) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        return registrationQueue.status(id).orElseThrow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.org.Traini8.ServiceImplementations;
+
+import static com.org.Traini8.TrainingCentreFixtures.centre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import com.org.Traini8.Index.TrainingCentreIndex;
+import com.org.Traini8.Service.TrainingCenterRegistrationService;
+import com.org.Traini8.Service.TrainingCenterRetreiveService;
+import com.org.Traini8.pojo.TrainingCentreSearchCriteria;
+import com.org.Traini8.pojo.TrainingCentreView;
+
+/**
+ * Verifies that a search which read the database before a registration
+ * committed does not leave its page in the search cache. The first search
+ * registers a centre from another thread after reading the center codes and
+ * before loading their views. The index is disabled, so searches read the
+ * database.
+ */
+@SpringBootTest(properties = { "spring.datasource.url=jdbc:h2:mem:traini8-search-cache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "traini8.index.enabled=false" })
+class TrainingCentreSearchCacheTests {
+
+    private static final TrainingCentreSearchCriteria ALL = new TrainingCentreSearchCriteria(null, null, null, null,
+            null, null, null, null, null, null, null);
+
+    @Autowired
+    private TrainingCenterRetreiveService retrieveService;
+
+    @Autowired
+    private TrainingCenterRegistrationService registrationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @SpyBean
+    private TrainingCentreIndex trainingCentreIndex;
+
+    @Test
+    void pageReadBeforeARegistrationCommitsIsNotCached() {
+        registrationService.saveTrainingCentre(centre("SEARCH000001"));
+        final var registerDuringSearch = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (registerDuringSearch.getAndSet(false)) {
+                final var registration = new Thread(
+                        () -> registrationService.saveTrainingCentre(centre("SEARCH000002")));
+                registration.start();
+                registration.join();
+            }
+            return invocation.callRealMethod();
+        }).when(trainingCentreIndex).findViews(any());
+
+        assertEquals(List.of("SEARCH000001"), centerCodes()); // Read before the registration committed
+        assertNull(cacheManager.getCache(TrainingCentreRetreiveServiceImpl.SEARCH_CACHE)
+                .get(new TrainingCentreSearchKey(ALL, null, null)));
+        assertEquals(List.of("SEARCH000001", "SEARCH000002"), centerCodes());
+        assertEquals(List.of("SEARCH000001", "SEARCH000002"), centerCodes()); // Now served from the cache
+    }
+
+    private List<String> centerCodes() {
+        return retrieveService.findByMultipleCriteria(ALL, null, null).getItems().stream()
+                .map(TrainingCentreView::centerCode).toList();
+    }
+}
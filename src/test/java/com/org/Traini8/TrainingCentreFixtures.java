@@ -0,0 +1,87 @@
+package com.org.Traini8;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.org.Traini8.pojo.Address;
+import com.org.Traini8.pojo.TrainingCentre;
+
+/**
+ * Builds valid training centres for tests that only care about the center
+ * code. Every other field holds the same valid value, so each centre passes
+ * registration validation. Also stores centres behind the application's back,
+ * as another instance would.
+ */
+public final class TrainingCentreFixtures {
+
+    private TrainingCentreFixtures() {
+    }
+
+    /**
+     * Creates a valid training centre offering Java.
+     *
+     * @param centerCode the 12-character center code.
+     * @return a new, unsaved training centre.
+     */
+    public static TrainingCentre centre(final String centerCode) {
+        final var address = new Address();
+        address.setDetailedAddress("1 Main Road");
+        address.setCity("Pune");
+        address.setState("Maharashtra");
+        address.setPincode("411001");
+
+        final var centre = new TrainingCentre();
+        centre.setCenterCode(centerCode);
+        centre.setCenterName("Test Centre");
+        centre.setAddress(address);
+        centre.setStudentCapacity(100);
+        centre.setCoursesOffered(List.of("Java"));
+        centre.setContactEmail("centre@example.com");
+        centre.setContactPhone("+919876543210");
+        return centre;
+    }
+
+    /**
+     * Creates the i-th of a series of valid training centres offering Java. The
+     * center code is the prefix followed by i in ten digits, and the name,
+     * email and phone are distinct for every i below 10000.
+     *
+     * @param prefix the two-character prefix of the center code.
+     * @param i      the position of the centre in the series.
+     * @return a new, unsaved training centre.
+     */
+    public static TrainingCentre centre(final String prefix, final int i) {
+        final var centre = centre(String.format("%s%010d", prefix, i));
+        centre.setCenterName("Centre " + i);
+        centre.setContactEmail("centre" + i + "@example.com");
+        centre.setContactPhone("+91987654" + String.format("%04d", i));
+        return centre;
+    }
+
+    /**
+     * Stores a centre the way another instance does: the rows are committed,
+     * but neither a registration event nor Hibernate's query cache on this
+     * instance hears of them.
+     *
+     * @param jdbcTemplate the template of the application data source.
+     * @param centre       the centre to store.
+     */
+    public static void storeElsewhere(final JdbcTemplate jdbcTemplate, final TrainingCentre centre) {
+        centre.normalizeSearchKeys();
+        final var address = centre.getAddress();
+        jdbcTemplate.update("""
+                INSERT INTO training_centre (center_code, center_name, detailed_address, city, state, pincode,
+                    city_key, state_key, student_capacity, created_on, contact_email, contact_phone,
+                    center_name_key, contact_email_key)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, centre.getCenterCode(), centre.getCenterName(), address.getDetailedAddress(), address.getCity(),
+                address.getState(), address.getPincode(), address.getCityKey(), address.getStateKey(),
+                centre.getStudentCapacity(), centre.getCreatedOnEpochMilli(), centre.getContactEmail(),
+                centre.getContactPhone(), centre.getCenterNameKey(), centre.getContactEmailKey());
+        for (final String course : centre.getCoursesOffered()) {
+            jdbcTemplate.update("INSERT INTO courses_offered (center_code, course) VALUES (?, ?)",
+                    centre.getCenterCode(), course);
+        }
+    }
+}